@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -15,6 +16,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,8 +25,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.DataFileConversions;
+import seedu.address.storage.DatabaseAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RecoveringAddressBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -43,9 +51,12 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookSaver saver;
     protected Model model;
     protected Config config;
 
+    private RecoveringAddressBookStorage recoveringStorage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -56,16 +67,84 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundAddressBookSaver(storage, BackgroundAddressBookSaver.DEFAULT_DEBOUNCE_MILLIS);
+        logic = new LogicManager(model, storage, saver, initParser(userPrefs));
+
+        Optional<String> recoveryMessage = recoveringStorage == null
+                ? Optional.empty()
+                : recoveringStorage.getRecoveryMessage();
+        ui = new UiManager(logic, recoveryMessage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the parser of user commands, with the command aliases in {@code userPrefs} registered on it.
+     * An alias that cannot be registered, such as one for an unknown command, is skipped with a warning.
+     */
+    private AddressBookParser initParser(ReadOnlyUserPrefs userPrefs) {
+        AddressBookParser parser = new AddressBookParser();
+        for (Map.Entry<String, String> alias : userPrefs.getCommandAliases().entrySet()) {
+            try {
+                parser.registerAlias(alias.getKey(), alias.getValue());
+            } catch (IllegalArgumentException e) {
+                logger.warning("Command alias " + alias.getKey() + " is not registered: " + e.getMessage());
+            }
+        }
+        return parser;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format in {@code userPrefs}. File storages recover a
+     * damaged data file from its backups. If the data file of the format does not exist yet, the address book is
+     * converted from the data file of the format used before: the binary, database and segmented storages migrate the
+     * json data file, and the data file of any other format is exported to json first.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+            exportToJson(jsonFilePath, binaryFilePath);
+            return withRecovery(new BinaryAddressBookStorage(binaryFilePath, jsonFilePath));
+        case DATABASE:
+            Path databaseFilePath = DatabaseAddressBookStorage.getDatabaseFilePath(jsonFilePath);
+            exportToJson(jsonFilePath, databaseFilePath);
+            return new DatabaseAddressBookStorage(databaseFilePath, jsonFilePath);
+        case SEGMENTED:
+            Path manifestFilePath = SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath);
+            exportToJson(jsonFilePath, manifestFilePath);
+            return new SegmentedAddressBookStorage(manifestFilePath, jsonFilePath);
+        default:
+            exportToJson(jsonFilePath, jsonFilePath);
+            return withRecovery(new JournaledAddressBookStorage(jsonFilePath));
+        }
+    }
+
+    /**
+     * Exports the data file of the format used before to the json data file at {@code jsonFilePath}, if neither it nor
+     * the data file at {@code dataFilePath} exists, so that switching the format keeps the address book.
+     */
+    private void exportToJson(Path jsonFilePath, Path dataFilePath) {
+        try {
+            DataFileConversions.exportToJson(jsonFilePath, dataFilePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to export the data file to " + jsonFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Wraps {@code storage} so that a damaged data file is recovered from its backups, and keeps the wrapper so that
+     * the user can be told about a recovery once the UI is shown.
+     */
+    private AddressBookStorage withRecovery(AddressBookStorage storage) {
+        recoveringStorage = new RecoveringAddressBookStorage(storage);
+        return recoveringStorage;
     }
 
     /**
@@ -185,5 +264,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            saver.flush(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        saver.shutdown();
     }
 }
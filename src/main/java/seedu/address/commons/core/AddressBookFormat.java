@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book can be stored on the hard disk.
+ */
+public enum AddressBookFormat {
+    /** A json file, journaled between full saves. */
+    JSON,
+    /** A compact binary file that is faster to load and save than json. */
+    BINARY,
+    /** An embedded H2 database, of which each save only updates the changed rows. */
+    DATABASE,
+    /** A json file per trip day, of which each save only rewrites the changed days. */
+    SEGMENTED
+}
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     /**
      * Prevents FileUtil from being instantiated.
@@ -80,9 +90,95 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as with {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes a file with {@code writer}, creating the file and its missing parent directories if they do not exist.
+     * The content is first written to a temporary file next to {@code file} and forced to the disk, and the temporary
+     * file is then renamed to {@code file}. Whether or not the writing fails or the application crashes, {@code file}
+     * holds either all of its old content or all of its new content.
+     *
+     * @throws IOException if the file could not be written, in which case it is left as it was.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                writer.writeTo(new UnclosableOutputStream(out));
+                out.flush();
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target}, atomically if the file system allows it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces a rename in {@code directory} to the disk. Not every platform allows a directory to be opened, and
+     * those that do not make renames durable by themselves, so a failure is ignored.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is durable once the file system commits it
+        }
+    }
+
+    /**
+     * An {@code OutputStream} that is only flushed when closed, so that the file behind it can be forced to the disk
+     * after the content is written.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. {@code out} may be closed when done.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -110,6 +115,40 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without the whitespace used by {@link #toJsonString(Object)}.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that reads JSON data from {@code in} as it is needed, instead of reading all of it up front.
+     * Values can be read one at a time with {@link JsonParser#readValueAs(Class)}, which maps them the same way as
+     * {@link #fromJsonString(String, Class)}. Closing the parser closes {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code out} in UTF-8 as it is produced.
+     * Values can be written one at a time with {@link JsonGenerator#writeObject(Object)}, which maps them the same
+     * way as {@link #toJsonString(Object)}, or as {@link #toCompactJsonString(Object)} if {@code isCompact} is true.
+     * {@code out} is only flushed when the generator is closed, which also closes {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isCompact) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A cache of values computed from immutable objects, looked up by the identity of the object rather than by
+ * {@code equals}, so that an object that was replaced by an equal copy is computed again.
+ * Keys are held weakly, so an entry is dropped once its key is no longer used elsewhere.
+ * Thread-safe.
+ *
+ * @param <K> the type of the objects the values are computed from.
+ * @param <V> the type of the cached values.
+ */
+public class WeakIdentityCache<K, V> {
+
+    private final Map<IdentityKey<K>, V> values = new HashMap<>();
+    private final ReferenceQueue<K> collectedKeys = new ReferenceQueue<>();
+
+    /**
+     * Returns the value cached for {@code key}, or {@code Optional.empty()} if there is none.
+     */
+    public synchronized Optional<V> get(K key) {
+        requireNonNull(key);
+        expungeCollectedKeys();
+        return Optional.ofNullable(values.get(new IdentityKey<>(key, null)));
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, replacing any value cached for it.
+     */
+    public synchronized void put(K key, V value) {
+        requireAllNonNull(key, value);
+        expungeCollectedKeys();
+        values.put(new IdentityKey<>(key, collectedKeys), value);
+    }
+
+    /**
+     * Returns the number of values currently cached.
+     * Values of keys that have been garbage collected may still be counted until the cache is next accessed.
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+
+    private void expungeCollectedKeys() {
+        Reference<? extends K> key;
+        while ((key = collectedKeys.poll()) != null) {
+            values.remove(key);
+        }
+    }
+
+    /**
+     * A weak reference that is equal to another only if both refer to the same object.
+     * A reference whose object has been collected is only equal to itself, so that its entry can still be removed.
+     */
+    private static class IdentityKey<K> extends WeakReference<K> {
+        private final int hashCode;
+
+        IdentityKey(K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hashCode = System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object key = get();
+            return key != null && key == ((IdentityKey<?>) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
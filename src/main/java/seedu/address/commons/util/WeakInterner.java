@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A canonicalising factory for immutable values, so that equal values can share a single instance.
+ * Values are looked up by a key, e.g. the {@code String} they wrap, and are only created on a miss.
+ * Values are held weakly, so values that are no longer used elsewhere can be garbage collected; the entry of a
+ * collected value is removed the next time the interner is accessed.
+ * Thread-safe without a global lock, so that storages decoding in parallel do not queue up on the interner.
+ *
+ * @param <K> the type of the keys the values are created from.
+ * @param <V> the type of the interned values.
+ */
+public class WeakInterner<K, V> {
+
+    private final ConcurrentMap<K, ValueReference<K, V>> values = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> collectedValues = new ReferenceQueue<>();
+    private final Function<K, V> factory;
+    private final Function<V, K> keyOf;
+
+    /**
+     * Creates a {@code WeakInterner} that creates values from keys with {@code factory}.
+     * {@code keyOf} must return the key held by a value, so that entries do not keep a second copy of the key alive.
+     */
+    public WeakInterner(Function<K, V> factory, Function<V, K> keyOf) {
+        requireAllNonNull(factory, keyOf);
+        this.factory = factory;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it with the factory if there is none.
+     * Any exception thrown by the factory is propagated and nothing is interned.
+     * If several threads miss on the same key at once, each may create a value but all of them return the one that
+     * was interned first.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        removeCollectedValues();
+        V value = get(values.get(key));
+        if (value != null) {
+            return value;
+        }
+
+        V created = factory.apply(key);
+        K createdKey = keyOf.apply(created);
+        ValueReference<K, V> reference = new ValueReference<>(createdKey, created, collectedValues);
+        while (true) {
+            ValueReference<K, V> existing = values.putIfAbsent(createdKey, reference);
+            if (existing == null) {
+                return created;
+            }
+            V existingValue = existing.get();
+            if (existingValue != null) {
+                return existingValue;
+            }
+            if (values.replace(createdKey, existing, reference)) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values currently interned.
+     * Values that have been garbage collected may still be counted until the garbage collector has cleared them.
+     */
+    public int size() {
+        removeCollectedValues();
+        return values.size();
+    }
+
+    private V get(ValueReference<K, V> reference) {
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Removes the entries of values that have been garbage collected, unless the entry has already been replaced.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeCollectedValues() {
+        Reference<? extends V> collected;
+        while ((collected = collectedValues.poll()) != null) {
+            ValueReference<K, V> reference = (ValueReference<K, V>) collected;
+            values.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to an interned value that remembers the key of its entry, so that the entry can be removed
+     * once the value is collected.
+     */
+    private static class ValueReference<K, V> extends WeakReference<V> {
+        private final K key;
+
+        ValueReference(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
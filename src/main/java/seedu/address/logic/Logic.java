@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -55,4 +56,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given the error message of every save that fails after its command has returned.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
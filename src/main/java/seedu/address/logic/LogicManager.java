@@ -1,7 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +21,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.Pool;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -23,19 +29,54 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final long UNSAVED_VERSION = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final Optional<BackgroundAddressBookSaver> saver;
     private final AddressBookParser addressBookParser;
+    private volatile long savedVersion;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    private int skippedSaveCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that parses the built-in
+     * commands only. The address book is saved before each command that modified it returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new AddressBookParser());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that parses user input with
+     * {@code addressBookParser}, on which more commands and aliases may have been registered.
+     * The address book is saved before each command that modified it returns. The address book in {@code model} is
+     * taken to be the one in storage, so commands that do not modify it save nothing.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookParser addressBookParser) {
+        requireAllNonNull(model, storage, addressBookParser);
+        this.model = model;
+        this.storage = storage;
+        this.saver = Optional.empty();
+        this.addressBookParser = addressBookParser;
+        this.savedVersion = model.getAddressBookVersion();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that parses user input with
+     * {@code addressBookParser}, and hands the saving of the address book over to {@code saver}, so that commands
+     * return without waiting for the data file.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver,
+                        AddressBookParser addressBookParser) {
+        requireAllNonNull(model, storage, saver, addressBookParser);
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.saver = Optional.of(saver);
+        this.addressBookParser = addressBookParser;
+        this.savedVersion = model.getAddressBookVersion();
+        saver.setFailureHandler(this::handleBackgroundSaveFailure);
     }
 
     @Override
@@ -46,11 +87,25 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            skippedSaveCount++;
+            logger.info("Address book unchanged, skipped saving it (" + skippedSaveCount + " saves skipped so far)");
+            return commandResult;
+        }
+
+        if (saver.isPresent()) {
+            savedVersion = version;
+            saver.get().requestSave(model.getAddressBook());
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedVersion = version;
 
         return commandResult;
     }
@@ -84,4 +139,18 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Marks the address book as unsaved, so that the next command saves it again, and reports {@code ioe}.
+     */
+    private void handleBackgroundSaveFailure(IOException ioe) {
+        savedVersion = UNSAVED_VERSION;
+        saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+    }
 }
@@ -3,8 +3,11 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STRING_LIST;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRIPDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRIPTIME;
 
 import java.util.function.Predicate;
 
@@ -15,6 +18,7 @@ import seedu.address.model.person.passenger.Passenger;
 /**
  * Finds and lists all passengers in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Predicates backed by an index only test the candidate passengers resolved from the address book's indexes.
  */
 public class FindCommand extends Command {
 
@@ -23,12 +27,17 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all passengers whose attributes"
             + ", defined by prefixes (case-sensitive),  contain any of the specified keywords (case-insensitive) and"
             + " displays them as a list with index numbers.\n"
-            + "Do note that only 1 type of prefix can be provided.\n"
+            + "Do note that only 1 type of prefix can be provided, except when searching for a range of trip times"
+            + " with " + PREFIX_TRIPTIME + "HHmm-HHmm, which may be combined with " + PREFIX_TRIPDAY + ".\n"
+            + "Searching with " + PREFIX_PRICE + "AMOUNT finds passengers willing to pay at least that amount, and "
+            + PREFIX_PRICE + "FROM-TO finds passengers willing to pay an amount in that range.\n"
             + "Prefixes you can use are: " + PREFIX_STRING_LIST + "\n"
             + "Parameters: PREFIX + KEYWORD\n"
             + "Example: \n1. " + COMMAND_WORD + " " + PREFIX_NAME + "alice"
             + "\n2. " + COMMAND_WORD + " " + PREFIX_TAG + "female"
-            + "\n3. " + COMMAND_WORD + " " + PREFIX_PHONE + "91031282";
+            + "\n3. " + COMMAND_WORD + " " + PREFIX_PHONE + "91031282"
+            + "\n4. " + COMMAND_WORD + " " + PREFIX_TRIPDAY + "monday " + PREFIX_TRIPTIME + "0800-0900"
+            + "\n5. " + COMMAND_WORD + " " + PREFIX_PRICE + "5-10";
 
     private final Predicate<Passenger> predicate;
 
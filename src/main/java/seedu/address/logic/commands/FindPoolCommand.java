@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
 
@@ -18,9 +19,11 @@ public class FindPoolCommand extends Command {
     public static final String COMMAND_WORD = "findPool";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows a list of trips where passenger's name contains "
-            + "the keyword\n"
-            + "Parameters: " + PREFIX_NAME + "KEYWORD\n"
-            + "Example: 1. " + COMMAND_WORD + " " + PREFIX_NAME + "alice";
+            + "the keyword, or where the trip has the given tags\n"
+            + "Only 1 type of prefix can be provided. Tags separated by spaces must all be present.\n"
+            + "Parameters: " + PREFIX_NAME + "KEYWORD or " + PREFIX_TAG + "TAG [MORE_TAGS]...\n"
+            + "Example: 1. " + COMMAND_WORD + " " + PREFIX_NAME + "alice"
+            + "\n2. " + COMMAND_WORD + " " + PREFIX_TAG + "female " + PREFIX_TAG + "it";
 
     private final Predicate<Pool> predicate;
 
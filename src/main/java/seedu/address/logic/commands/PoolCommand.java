@@ -90,9 +90,14 @@ public class PoolCommand extends Command {
         this.tags = tags;
     }
 
+    /**
+     * Returns true if any of {@code passengers}, who are all on the trip day of the pool, has a trip time more than
+     * {@code MAX_TIME_DIFFERENCE} minutes away from the trip time of the pool.
+     */
     private boolean checkTimeDifference(List<Passenger> passengers) {
-        return passengers.stream()
-                .anyMatch(x -> x.getTripTime().compareMinutes(this.tripTime) > MAX_TIME_DIFFERENCE);
+        int minuteOfDay = tripTime.getMinuteOfDay();
+        return passengers.stream().anyMatch(passenger ->
+                Math.abs(passenger.getTripTime().getMinuteOfDay() - minuteOfDay) > MAX_TIME_DIFFERENCE);
     }
 
     private List<Passenger> getPassengersFromIndexes(Set<Index> indexes, Model model) throws CommandException {
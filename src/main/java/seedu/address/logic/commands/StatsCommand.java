@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.index.PriceStatistics;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.person.passenger.PriceIsAmongHighestPredicate;
+
+/**
+ * Shows the statistics of the prices passengers are willing to pay, and optionally ranks the passengers with the
+ * highest prices.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number, total, lowest, highest, median and mean of the prices passengers are willing to"
+            + " pay. If a number is given, also ranks that many passengers with the highest prices.\n"
+            + "Parameters: [NUMBER] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "Prices: %1$s";
+    public static final String MESSAGE_HIGHEST_PRICES_LISTED =
+            "\nListed the %1$d passenger(s) with the highest prices:";
+    public static final String MESSAGE_RANKED_PASSENGER = "\n%1$d. %2$s: %3$s";
+
+    private final Optional<Integer> limit;
+
+    /**
+     * Creates a StatsCommand that also lists the {@code limit} passengers with the highest prices, if present.
+     *
+     * @param limit The number of passengers with the highest prices to list, which must be positive.
+     */
+    public StatsCommand(Optional<Integer> limit) {
+        requireNonNull(limit);
+        checkArgument(limit.map(value -> value > 0).orElse(true));
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PriceStatistics statistics = model.getPriceStatistics();
+        String message = String.format(MESSAGE_SUCCESS, statistics);
+
+        if (limit.isPresent()) {
+            List<Passenger> highestPrices = model.getPassengersWithHighestPrices(limit.get());
+            // the list shows the passengers in roster order, so the ranking is given in the message
+            StringBuilder builder = new StringBuilder(message)
+                    .append(String.format(MESSAGE_HIGHEST_PRICES_LISTED, highestPrices.size()));
+            for (int i = 0; i < highestPrices.size(); i++) {
+                Passenger passenger = highestPrices.get(i);
+                builder.append(String.format(MESSAGE_RANKED_PASSENGER, i + 1, passenger.getName(),
+                        passenger.getPrice().get()));
+            }
+            long lowestCents = highestPrices.isEmpty()
+                    ? Long.MAX_VALUE
+                    : highestPrices.get(highestPrices.size() - 1).getPrice().get().getCents();
+            model.updateFilteredPassengerList(new PriceIsAmongHighestPredicate(limit.get(), lowestCents));
+            message = builder.toString();
+        }
+
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && limit.equals(((StatsCommand) other).limit)); // state check
+    }
+}
@@ -2,9 +2,11 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
@@ -18,18 +20,43 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListPoolCommand;
 import seedu.address.logic.commands.PoolCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnpoolCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The first word of the input is looked up in a registry of command words, and the rest of the input is parsed by
+ * the parser registered for it. Parsers are stateless, so the parsers of the built-in commands are created once and
+ * shared by every {@code AddressBookParser}. More commands and aliases can be registered on each instance.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command words cannot be empty or contain whitespace";
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %s is already registered";
+    public static final String MESSAGE_UNREGISTERED_COMMAND_WORD = "Command word %s is not registered";
+
+    private static final Map<String, Parser<? extends Command>> BUILT_IN_PARSERS = createBuiltInParsers();
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>(BUILT_IN_PARSERS);
+
+    private static Map<String, Parser<? extends Command>> createBuiltInParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(FindPoolCommand.COMMAND_WORD, new FindPoolCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(ListPoolCommand.COMMAND_WORD, arguments -> new ListPoolCommand());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(PoolCommand.COMMAND_WORD, new PoolCommandParser());
+        parsers.put(UnpoolCommand.COMMAND_WORD, new UnpoolCommandParser());
+        parsers.put(StatsCommand.COMMAND_WORD, new StatsCommandParser());
+        return parsers;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -39,54 +66,88 @@ public class AddressBookParser {
      * @throws ParseException If the user input does not conform the expected format.
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        int start = 0;
+        int end = userInput.length();
+        while (start < end && userInput.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && userInput.charAt(end - 1) <= ' ') {
+            end--;
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case FindPoolCommand.COMMAND_WORD:
-            return new FindPoolCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+        int commandWordEnd = start;
+        while (commandWordEnd < end && !isWhitespace(userInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == start || hasLineTerminator(userInput, commandWordEnd, end)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
 
-        case ListPoolCommand.COMMAND_WORD:
-            return new ListPoolCommand();
+        final Parser<? extends Command> parser = parsers.get(userInput.substring(start, commandWordEnd));
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(userInput.substring(commandWordEnd, end));
+    }
 
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+    /**
+     * Registers {@code parser} to parse the arguments of commands starting with {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty, contains whitespace or is already registered.
+     */
+    public void registerCommand(String commandWord, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, parser);
+        checkArgument(isValidCommandWord(commandWord), MESSAGE_INVALID_COMMAND_WORD);
+        checkArgument(!parsers.containsKey(commandWord), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        parsers.put(commandWord, parser);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Registers {@code alias} as another command word for the command registered as {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is not registered, or {@code alias} is empty, contains
+     *     whitespace or is already registered.
+     */
+    public void registerAlias(String alias, String commandWord) {
+        requireAllNonNull(alias, commandWord);
+        checkArgument(parsers.containsKey(commandWord), String.format(MESSAGE_UNREGISTERED_COMMAND_WORD, commandWord));
+        registerCommand(alias, parsers.get(commandWord));
+    }
 
-        case PoolCommand.COMMAND_WORD:
-            return new PoolCommandParser().parse(arguments);
+    /**
+     * Returns true if {@code commandWord} can be the first word of a user input.
+     */
+    private static boolean isValidCommandWord(String commandWord) {
+        if (commandWord.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < commandWord.length(); i++) {
+            if (commandWord.charAt(i) <= ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        case UnpoolCommand.COMMAND_WORD:
-            return new UnpoolCommandParser().parse(arguments);
+    /**
+     * Returns true if {@code c} ends the command word, i.e. is one of the whitespace characters matched by {@code \s}
+     * in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code userInput} has a line terminator between {@code start} and {@code end}. Arguments are
+     * only ever a single line.
+     */
+    private static boolean hasLineTerminator(String userInput, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = userInput.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
-
 }
@@ -22,19 +22,25 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TRIPTIME_STRING;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.TripDay;
 import seedu.address.model.TripDayContainsKeywordsPredicate;
+import seedu.address.model.TripTime;
 import seedu.address.model.TripTimeContainsKeywordsPredicate;
+import seedu.address.model.TripTimeRangePredicate;
 import seedu.address.model.person.AttributeContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.passenger.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.person.passenger.Price;
 import seedu.address.model.person.passenger.PriceIsGreaterThanAmountPredicate;
+import seedu.address.model.person.passenger.PriceRangePredicate;
 import seedu.address.model.tag.TagContainsKeywordsPredicate;
 
 /**
@@ -42,6 +48,12 @@ import seedu.address.model.tag.TagContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final PrefixTrie PREFIXES = new PrefixTrie(PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_TAG,
+            PREFIX_PRICE, PREFIX_ALL, PREFIX_TRIPDAY, PREFIX_TRIPTIME);
+
+    private static final String TRIPTIME_RANGE_SEPARATOR = "-";
+    private static final String PRICE_RANGE_SEPARATOR = "-";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -51,9 +63,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException If the user input does not conform the expected format.
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_PRICE,
-                        PREFIX_ALL, PREFIX_TRIPDAY, PREFIX_TRIPTIME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+
+        if (isTripTimeRange(argMultimap)) {
+            return new FindCommand(parseTripTimeRange(argMultimap));
+        }
+
+        if (isPriceRange(argMultimap)) {
+            return new FindCommand(parsePriceRange(argMultimap));
+        }
 
         if (!checkOnePrefixProvided(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_TAG, PREFIX_PRICE,
                 PREFIX_ALL, PREFIX_TRIPDAY, PREFIX_TRIPTIME)) {
@@ -71,6 +89,83 @@ public class FindCommandParser implements Parser<FindCommand> {
         return new FindCommand(parsePredicate(specifiedPrefix, keywords));
     }
 
+    /**
+     * Returns true if {@code argumentMultimap} describes a trip time range search, i.e. a single trip time of the
+     * form {@code HHmm-HHmm}, optionally with a single trip day, and no other prefixes.
+     */
+    private static boolean isTripTimeRange(ArgumentMultimap argumentMultimap) {
+        List<Prefix> presentPrefixes = findPresentPrefixes(argumentMultimap, PREFIX_NAME, PREFIX_ADDRESS,
+                PREFIX_PHONE, PREFIX_TAG, PREFIX_PRICE, PREFIX_ALL, PREFIX_TRIPDAY, PREFIX_TRIPTIME);
+        presentPrefixes.remove(PREFIX_TRIPDAY);
+        return presentPrefixes.equals(List.of(PREFIX_TRIPTIME))
+                && argumentMultimap.getValue(PREFIX_TRIPTIME).get().contains(TRIPTIME_RANGE_SEPARATOR);
+    }
+
+    /**
+     * Parses a trip time range search into a {@code TripTimeRangePredicate}.
+     *
+     * @throws ParseException if the trip day or either end of the range is invalid, or the range is empty.
+     */
+    private static TripTimeRangePredicate parseTripTimeRange(ArgumentMultimap argumentMultimap)
+            throws ParseException {
+        if (!doesPrefixHaveOneValue(argumentMultimap, PREFIX_TRIPDAY, PREFIX_TRIPTIME)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        String[] range = argumentMultimap.getValue(PREFIX_TRIPTIME).get().split(TRIPTIME_RANGE_SEPARATOR, -1);
+        if (range.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        TripTime from = ParserUtil.parseTripTime(range[0]);
+        TripTime to = ParserUtil.parseTripTime(range[1]);
+        if (!TripTimeRangePredicate.isValidRange(from, to)) {
+            throw new ParseException(TripTimeRangePredicate.MESSAGE_CONSTRAINTS);
+        }
+
+        Optional<TripDay> tripDay = Optional.empty();
+        if (argumentMultimap.getValue(PREFIX_TRIPDAY).isPresent()) {
+            tripDay = Optional.of(ParserUtil.parseTripDay(argumentMultimap.getValue(PREFIX_TRIPDAY).get()));
+        }
+
+        return new TripTimeRangePredicate(tripDay, from, to);
+    }
+
+    /**
+     * Returns true if {@code argumentMultimap} describes a price range search, i.e. a single price of the form
+     * {@code FROM-TO} and no other prefixes.
+     */
+    private static boolean isPriceRange(ArgumentMultimap argumentMultimap) {
+        List<Prefix> presentPrefixes = findPresentPrefixes(argumentMultimap, PREFIX_NAME, PREFIX_ADDRESS,
+                PREFIX_PHONE, PREFIX_TAG, PREFIX_PRICE, PREFIX_ALL, PREFIX_TRIPDAY, PREFIX_TRIPTIME);
+        return presentPrefixes.equals(List.of(PREFIX_PRICE))
+                && argumentMultimap.getValue(PREFIX_PRICE).get().contains(PRICE_RANGE_SEPARATOR);
+    }
+
+    /**
+     * Parses a price range search into a {@code PriceRangePredicate}.
+     *
+     * @throws ParseException if either end of the range is invalid, or the range is empty.
+     */
+    private static PriceRangePredicate parsePriceRange(ArgumentMultimap argumentMultimap) throws ParseException {
+        if (!doesPrefixHaveOneValue(argumentMultimap, PREFIX_PRICE)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        String[] range = argumentMultimap.getValue(PREFIX_PRICE).get().split(PRICE_RANGE_SEPARATOR, -1);
+        if (range.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        Price from = ParserUtil.parsePrice(range[0].trim());
+        Price to = ParserUtil.parsePrice(range[1].trim());
+        if (!PriceRangePredicate.isValidRange(from, to)) {
+            throw new ParseException(PriceRangePredicate.MESSAGE_CONSTRAINTS);
+        }
+
+        return new PriceRangePredicate(from, to);
+    }
+
     /**
      * Returns the prefixes that have values
      * {@code ArgumentMultimap}.
@@ -138,7 +233,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 argument = ParserUtil.parsePhone(s).toString();
                 break;
             case PREFIX_TAG_STRING:
-                argument = ParserUtil.parseTag(s).toString();
+                argument = ParserUtil.parseTagKeyword(s);
                 break;
             case PREFIX_PRICE_STRING:
                 argument = ParserUtil.parsePrice(s).toString();
@@ -5,6 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.ArgumentMultimap.checkOnePrefixProvided;
 import static seedu.address.logic.parser.ArgumentMultimap.findPresentPrefixes;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,12 +15,15 @@ import seedu.address.logic.commands.FindPoolCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.pool.Pool;
 import seedu.address.model.pool.PooledPassengerContainsKeywordsPredicate;
+import seedu.address.model.tag.PoolTagContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindPoolCommand object
  */
 public class FindPoolCommandParser implements Parser<FindPoolCommand> {
 
+    private static final PrefixTrie PREFIXES = new PrefixTrie(PREFIX_NAME, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindPoolCommand.
      * and returns a FindPoolCommand object for execution.
@@ -29,15 +33,14 @@ public class FindPoolCommandParser implements Parser<FindPoolCommand> {
      * @throws ParseException If the user input does not conform the expected format.
      */
     public FindPoolCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
-        if (!checkOnePrefixProvided(argMultimap, PREFIX_NAME)) {
+        if (!checkOnePrefixProvided(argMultimap, PREFIX_NAME, PREFIX_TAG)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPoolCommand.MESSAGE_USAGE));
         }
 
         List<Prefix> presentPrefixes =
-                findPresentPrefixes(argMultimap, PREFIX_NAME);
+                findPresentPrefixes(argMultimap, PREFIX_NAME, PREFIX_TAG);
         assert(presentPrefixes.size() == 1);
 
         Prefix specifiedPrefix = presentPrefixes.get(0);
@@ -57,6 +60,10 @@ public class FindPoolCommandParser implements Parser<FindPoolCommand> {
                 String parsedNameAsString = ParserUtil.parseName(s).toString().replaceAll("\\s+", " ");
                 outputList.add(parsedNameAsString.trim().toLowerCase());
             }
+        } else if (PREFIX_TAG.equals(prefix) && argumentMultimap.getValue(PREFIX_TAG).isPresent()) {
+            for (String s : argumentMultimap.getAllValues(PREFIX_TAG)) {
+                outputList.add(ParserUtil.parseTagKeyword(s).toLowerCase());
+            }
         }
         return outputList;
     }
@@ -69,6 +76,8 @@ public class FindPoolCommandParser implements Parser<FindPoolCommand> {
     private static Predicate<Pool> parsePredicate(Prefix prefix, List<String> arguments) throws ParseException {
         if (PREFIX_NAME.equals(prefix)) {
             return new PooledPassengerContainsKeywordsPredicate(arguments);
+        } else if (PREFIX_TAG.equals(prefix)) {
+            return new PoolTagContainsKeywordsPredicate(arguments);
         } else {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPoolCommand.MESSAGE_USAGE));
         }
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.StringJoiner;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -66,7 +67,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -81,7 +82,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.of(trimmedPhone);
     }
 
     /**
@@ -96,7 +97,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -111,7 +112,22 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
+    }
+
+    /**
+     * Parses a {@code String tagKeyword} of one or more tag names separated by whitespace into the keyword form used
+     * by tag predicates, e.g. {@code "female it"} into {@code "[female] [it]"}.
+     *
+     * @throws ParseException if any of the tag names is invalid.
+     */
+    public static String parseTagKeyword(String tagKeyword) throws ParseException {
+        requireNonNull(tagKeyword);
+        StringJoiner tags = new StringJoiner(" ");
+        for (String tagName : tagKeyword.trim().split("\\s+")) {
+            tags.add(parseTag(tagName).toString());
+        }
+        return tags.toString();
     }
 
     /**
@@ -141,7 +157,7 @@ public class ParserUtil {
         } catch (IllegalArgumentException e) {
             throw new ParseException(TripDay.MESSAGE_CONSTRAINTS);
         }
-        return new TripDay(day);
+        return TripDay.of(day);
     }
 
     /**
@@ -161,7 +177,7 @@ public class ParserUtil {
             throw new ParseException(TripTime.MESSAGE_CONSTRAINTS);
         }
 
-        return new TripTime(parsedTimeObject);
+        return TripTime.of(parsedTimeObject);
     }
 
     /**
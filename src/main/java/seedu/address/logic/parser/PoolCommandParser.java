@@ -23,6 +23,9 @@ import seedu.address.model.tag.Tag;
 
 public class PoolCommandParser implements Parser<PoolCommand> {
 
+    private static final PrefixTrie PREFIXES = new PrefixTrie(PREFIX_NAME, PREFIX_PHONE, PREFIX_TRIPDAY,
+            PREFIX_TRIPTIME, PREFIX_COMMUTER, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the PoolCommand
      * and returns an PoolCommand object for execution.
@@ -32,8 +35,7 @@ public class PoolCommandParser implements Parser<PoolCommand> {
      * @throws ParseException If the user input does not conform the expected format.
      */
     public PoolCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
-                PREFIX_TRIPDAY, PREFIX_TRIPTIME, PREFIX_COMMUTER, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_TRIPDAY, PREFIX_TRIPTIME,
                 PREFIX_COMMUTER) || !argMultimap.getPreamble().isEmpty()) {
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * A trie of the prefixes recognised by a parser, which finds the prefix at any position of an arguments string by
+ * reading each character after that position once.
+ * A trie is immutable once built, so parsers build theirs once and share it.
+ */
+public class PrefixTrie {
+
+    public static final String MESSAGE_EMPTY_PREFIX = "Prefixes cannot be empty";
+
+    private final Node root = new Node();
+
+    /**
+     * Builds a trie of {@code prefixes}, none of which can be empty.
+     */
+    public PrefixTrie(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            checkArgument(!prefix.getPrefix().isEmpty(), MESSAGE_EMPTY_PREFIX);
+            add(prefix);
+        }
+    }
+
+    private void add(Prefix prefix) {
+        Node node = root;
+        String prefixString = prefix.getPrefix();
+        for (int i = 0; i < prefixString.length(); i++) {
+            node = node.getOrAddChild(prefixString.charAt(i));
+        }
+        node.prefix = prefix;
+    }
+
+    /**
+     * Returns the longest prefix that {@code argsString} has at {@code position}, or null if it has none there.
+     */
+    Prefix match(String argsString, int position) {
+        Prefix longestMatch = null;
+        Node node = root;
+        for (int i = position; i < argsString.length(); i++) {
+            node = node.getChild(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * A node of the trie. Nodes have few children, so they are kept in arrays and searched linearly.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
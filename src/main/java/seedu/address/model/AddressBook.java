@@ -4,8 +4,15 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.index.KeywordIndex;
+import seedu.address.model.index.PassengerTagIndex;
+import seedu.address.model.index.PriceIndex;
+import seedu.address.model.index.PriceStatistics;
+import seedu.address.model.index.TrigramIndex;
+import seedu.address.model.index.TripTimeIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.person.passenger.UniquePassengerList;
@@ -20,6 +27,11 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePassengerList passengers;
     private final UniquePoolList pools;
+    private final TripTimeIndex tripTimeIndex;
+    private final KeywordIndex keywordIndex;
+    private final TrigramIndex trigramIndex;
+    private final PassengerTagIndex passengerTagIndex;
+    private final PriceIndex priceIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,6 +43,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         passengers = new UniquePassengerList();
         pools = new UniquePoolList();
+        tripTimeIndex = new TripTimeIndex();
+        passengers.addIndex(tripTimeIndex);
+        keywordIndex = new KeywordIndex();
+        passengers.addIndex(keywordIndex);
+        trigramIndex = new TrigramIndex(KeywordIndex.Field.NAME, KeywordIndex.Field.ADDRESS);
+        passengers.addIndex(trigramIndex);
+        passengerTagIndex = new PassengerTagIndex();
+        passengers.addIndex(passengerTagIndex);
+        priceIndex = new PriceIndex();
+        passengers.addIndex(priceIndex);
     }
 
     public AddressBook() {}
@@ -118,6 +140,63 @@ public class AddressBook implements ReadOnlyAddressBook {
         passengers.remove(key);
     }
 
+    /**
+     * Returns the passengers travelling on {@code tripDay} with a trip time from {@code from} to {@code to}
+     * inclusive, sorted by trip time.
+     */
+    public List<Passenger> getPassengersByTripTime(TripDay tripDay, TripTime from, TripTime to) {
+        return tripTimeIndex.getPassengersBetween(tripDay, from, to);
+    }
+
+    /**
+     * Returns the passengers with {@code word} as one of the words of {@code field}, ignoring case.
+     */
+    public Set<Passenger> getPassengersWithWord(KeywordIndex.Field field, String word) {
+        return keywordIndex.getPassengersWithWord(field, word);
+    }
+
+    /**
+     * Returns the passengers whose {@code field} may contain {@code phrase}, ignoring case and repeated whitespace.
+     * The passengers returned still have to be checked against {@code phrase}.
+     * Phrases long enough to have a trigram are looked up in the trigram index, shorter ones in the keyword index.
+     */
+    public Set<Passenger> getPassengersWithPhrase(KeywordIndex.Field field, String phrase) {
+        requireNonNull(phrase);
+        if (trigramIndex.isIndexed(field) && phrase.length() >= TrigramIndex.TRIGRAM_LENGTH) {
+            return trigramIndex.getPassengersWithPhrase(field, phrase);
+        }
+        return keywordIndex.getPassengersWithPhrase(field, phrase);
+    }
+
+    /**
+     * Returns the passengers that have every tag of at least one of {@code tagGroups}, ignoring case.
+     * Tags are given in their {@code Tag#toString()} form.
+     */
+    public List<Passenger> getPassengersWithAllTagsOfAnyGroup(List<List<String>> tagGroups) {
+        return passengerTagIndex.getWithAllTagsOfAnyGroup(tagGroups);
+    }
+
+    /**
+     * Returns the passengers with a price from {@code fromCents} to {@code toCents} inclusive, sorted by price.
+     */
+    public List<Passenger> getPassengersByPrice(long fromCents, long toCents) {
+        return priceIndex.getPassengersBetween(fromCents, toCents);
+    }
+
+    /**
+     * Returns at most {@code limit} passengers with the highest prices, from the highest price down.
+     */
+    public List<Passenger> getPassengersWithHighestPrices(int limit) {
+        return priceIndex.getPassengersWithHighestPrices(limit);
+    }
+
+    /**
+     * Returns the statistics of the prices stated by the passengers.
+     */
+    public PriceStatistics getPriceStatistics() {
+        return priceIndex.getStatistics();
+    }
+
 
     ////Pool level operations
 
@@ -147,6 +226,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         return pools.hasPoolWithDayTimePerson(tripDay, tripTime, person);
     }
 
+    /**
+     * Returns the pools driven by {@code driver} on {@code tripDay}, sorted by trip time.
+     */
+    public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay) {
+        return pools.getPoolsDrivenBy(driver, tripDay);
+    }
+
+    /**
+     * Returns the pools driven by {@code driver} on {@code tripDay} at {@code tripTime}.
+     */
+    public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay, TripTime tripTime) {
+        return pools.getPoolsDrivenBy(driver, tripDay, tripTime);
+    }
+
+    /**
+     * Returns the pools that have every tag of at least one of {@code tagGroups}, ignoring case.
+     * Tags are given in their {@code Tag#toString()} form.
+     */
+    public List<Pool> getPoolsWithAllTagsOfAnyGroup(List<List<String>> tagGroups) {
+        return pools.getPoolsWithAllTagsOfAnyGroup(tagGroups);
+    }
+
     /**
      * Adds a passenger to the address book.
      * The passenger must not already exist in the address book.
@@ -165,6 +266,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns a version stamp of the address book, which increases every time its passengers or pools are modified.
+     * An unchanged version means that the address book has not been modified.
+     */
+    public long getVersion() {
+        return passengers.getModificationCount() + pools.getModificationCount();
+    }
+
     @Override
     public String toString() {
         return passengers.asUnmodifiableObservableList().size() + " passengers; "
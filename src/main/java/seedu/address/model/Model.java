@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.PriceStatistics;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.Pool;
@@ -59,6 +61,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which increases every time the address book is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a passenger with the same identity as {@code passenger} exists in the address book.
      */
@@ -81,6 +88,34 @@ public interface Model {
 
     boolean hasPoolWithDayTimePerson(TripDay tripDay, TripTime tripTime, Person person);
 
+    /**
+     * Returns the pools driven by {@code driver} on {@code tripDay}, sorted by trip time.
+     */
+    List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay);
+
+    /**
+     * Returns the pools driven by {@code driver} on {@code tripDay} at {@code tripTime}.
+     * The returned list contains at most one pool.
+     */
+    List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay, TripTime tripTime);
+
+    /**
+     * Returns the passengers travelling on {@code tripDay} with a trip time from {@code from} to {@code to}
+     * inclusive, sorted by trip time.
+     */
+    List<Passenger> getPassengersByTripTime(TripDay tripDay, TripTime from, TripTime to);
+
+    /**
+     * Returns at most {@code limit} passengers with the highest prices, from the highest price down.
+     * {@code limit} must not be negative.
+     */
+    List<Passenger> getPassengersWithHighestPrices(int limit);
+
+    /**
+     * Returns the statistics of the prices stated by the passengers.
+     */
+    PriceStatistics getPriceStatistics();
+
     /**
      * Deletes the given passenger.
      * The passenger must exist in the address book.
@@ -118,6 +153,7 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered passenger list to filter by the given {@code predicate}.
+     * If {@code predicate} is an {@code IndexedPassengerPredicate}, only its candidates are tested.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPassengerList(Predicate<Passenger> predicate);
@@ -127,6 +163,7 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered pool list to filter by the given {@code predicate}.
+     * If {@code predicate} is an {@code IndexedPoolPredicate}, only its candidates are tested.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPoolList(Predicate<Pool> predicate);
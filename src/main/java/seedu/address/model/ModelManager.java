@@ -4,13 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.IndexedPassengerPredicate;
+import seedu.address.model.index.IndexedPoolPredicate;
+import seedu.address.model.index.PriceStatistics;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.Pool;
@@ -25,6 +33,8 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Passenger> filteredPassengers;
     private final FilteredList<Pool> filteredPools;
+    private Set<Passenger> passengerCandidates;
+    private Set<Pool> poolCandidates;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,6 +47,11 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // registered before the filtered lists, so that candidates are added before the filters test them
+        this.addressBook.getPassengerList().addListener((ListChangeListener<Passenger>) change ->
+                addAddedElements(change, passengerCandidates));
+        this.addressBook.getPoolList().addListener((ListChangeListener<Pool>) change ->
+                addAddedElements(change, poolCandidates));
         this.filteredPassengers = new FilteredList<>(this.addressBook.getPassengerList());
         this.filteredPools = new FilteredList<>(this.addressBook.getPoolList());
     }
@@ -92,6 +107,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPassenger(Passenger passenger) {
         requireNonNull(passenger);
@@ -121,6 +141,34 @@ public class ModelManager implements Model {
         return addressBook.hasPoolWithDayTimePerson(tripDay, tripTime, person);
     }
 
+    @Override
+    public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay) {
+        requireAllNonNull(driver, tripDay);
+        return addressBook.getPoolsDrivenBy(driver, tripDay);
+    }
+
+    @Override
+    public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay, TripTime tripTime) {
+        requireAllNonNull(driver, tripDay, tripTime);
+        return addressBook.getPoolsDrivenBy(driver, tripDay, tripTime);
+    }
+
+    @Override
+    public List<Passenger> getPassengersByTripTime(TripDay tripDay, TripTime from, TripTime to) {
+        requireAllNonNull(tripDay, from, to);
+        return addressBook.getPassengersByTripTime(tripDay, from, to);
+    }
+
+    @Override
+    public List<Passenger> getPassengersWithHighestPrices(int limit) {
+        return addressBook.getPassengersWithHighestPrices(limit);
+    }
+
+    @Override
+    public PriceStatistics getPriceStatistics() {
+        return addressBook.getPriceStatistics();
+    }
+
     @Override
     public void deletePassenger(Passenger passenger) {
         requireNonNull(passenger);
@@ -156,9 +204,22 @@ public class ModelManager implements Model {
         return filteredPassengers;
     }
 
+    /**
+     * {@inheritDoc}
+     * An {@code IndexedPassengerPredicate} is only tested on the candidates it looks up in the address book, and on
+     * the passengers added or edited while it filters the list.
+     */
     @Override
     public void updateFilteredPassengerList(Predicate<Passenger> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof IndexedPassengerPredicate) {
+            Set<Passenger> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(((IndexedPassengerPredicate) predicate).getCandidates(addressBook));
+            passengerCandidates = candidates;
+            filteredPassengers.setPredicate(passenger -> candidates.contains(passenger) && predicate.test(passenger));
+            return;
+        }
+        passengerCandidates = null;
         filteredPassengers.setPredicate(predicate);
     }
 
@@ -179,12 +240,40 @@ public class ModelManager implements Model {
         return filteredPools;
     }
 
+    /**
+     * {@inheritDoc}
+     * An {@code IndexedPoolPredicate} is only tested on the candidates it looks up in the address book, and on the
+     * pools added or replaced while it filters the list.
+     */
     @Override
     public void updateFilteredPoolList(Predicate<Pool> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof IndexedPoolPredicate) {
+            Set<Pool> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(((IndexedPoolPredicate) predicate).getCandidates(addressBook));
+            poolCandidates = candidates;
+            filteredPools.setPredicate(pool -> candidates.contains(pool) && predicate.test(pool));
+            return;
+        }
+        poolCandidates = null;
         filteredPools.setPredicate(predicate);
     }
 
+    /**
+     * Adds the elements added to the list by {@code change} to {@code candidates}, if there are any candidates.
+     * Elements are immutable, so only added elements can match a predicate that their index did not return.
+     */
+    private static <E> void addAddedElements(ListChangeListener.Change<? extends E> change, Set<E> candidates) {
+        if (candidates == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasAdded()) {
+                candidates.addAll(change.getAddedSubList());
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +15,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns the extra command words to register at startup, each mapped to the command word it stands for.
+     */
+    Map<String, String> getCommandAliases();
+
 }
@@ -5,16 +5,25 @@ import static java.util.Objects.requireNonNull;
 import java.time.DayOfWeek;
 
 /**
- * Represents a Passenger's address in the address book.
+ * Represents a Passenger's trip day in the address book.
+ * The day is stored as the ordinal of its {@code DayOfWeek}, where 0 is Monday.
  * Guarantees: immutable;
  */
-public class TripDay {
+public class TripDay implements Comparable<TripDay> {
 
     public static final String MESSAGE_CONSTRAINTS = "TripDay should only be monday, tuesday, wednesday, thursday, "
             + "friday, saturday or sunday.";
 
+    private static final DayOfWeek[] DAYS_OF_WEEK = DayOfWeek.values();
+    private static final TripDay[] TRIP_DAYS = new TripDay[DAYS_OF_WEEK.length];
 
-    public final DayOfWeek value;
+    static {
+        for (DayOfWeek dayOfWeek : DAYS_OF_WEEK) {
+            TRIP_DAYS[dayOfWeek.ordinal()] = new TripDay(dayOfWeek);
+        }
+    }
+
+    private final byte ordinal;
 
     /**
      * Constructs a {@code TripDay}.
@@ -23,24 +32,53 @@ public class TripDay {
      */
     public TripDay(DayOfWeek dayOfWeek) {
         requireNonNull(dayOfWeek);
-        value = dayOfWeek;
+        ordinal = (byte) dayOfWeek.ordinal();
+    }
+
+    /**
+     * Returns the shared {@code TripDay} for the given day of the week.
+     *
+     * @param dayOfWeek A valid day of the week.
+     */
+    public static TripDay of(DayOfWeek dayOfWeek) {
+        requireNonNull(dayOfWeek);
+        return TRIP_DAYS[dayOfWeek.ordinal()];
+    }
+
+    /**
+     * Returns the day of the week of this trip day.
+     */
+    public DayOfWeek getDayOfWeek() {
+        return DAYS_OF_WEEK[ordinal];
+    }
+
+    /**
+     * Returns the ordinal of the day of the week of this trip day, where 0 is Monday.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public int compareTo(TripDay other) {
+        return Integer.compare(ordinal, other.ordinal);
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return DAYS_OF_WEEK[ordinal].toString();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TripDay // instanceof handles nulls
-                && value.equals(((TripDay) other).value)); // state check
+                && ordinal == ((TripDay) other).ordinal); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return ordinal;
     }
 
 }
@@ -1,30 +1,93 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 
 /**
- * Represents a Passenger's address in the address book.
+ * Represents a Passenger's trip time in the address book, to the minute.
+ * The time is stored as its minute of the day, so comparisons and formatting do not need to allocate.
  * Guarantees: immutable;
  */
-public class TripTime {
+public class TripTime implements Comparable<TripTime> {
 
     public static final String MESSAGE_CONSTRAINTS = "TripTime should only be numeric and formatted in 24h time. "
             + "eg. 1400.";
+    public static final int MINUTES_IN_HOUR = 60;
+    public static final int MINUTES_IN_DAY = 24 * MINUTES_IN_HOUR;
 
-    public final LocalTime value;
+    private static final int FORMATTED_LENGTH = 4;
+    private static final String[] FORMATTED = new String[MINUTES_IN_DAY];
+    private static final TripTime[] TRIP_TIMES = new TripTime[MINUTES_IN_DAY];
+
+    static {
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_IN_DAY; minuteOfDay++) {
+            FORMATTED[minuteOfDay] = format(minuteOfDay);
+            TRIP_TIMES[minuteOfDay] = new TripTime((short) minuteOfDay);
+        }
+    }
+
+    private final short minuteOfDay;
 
     /**
-     * Constructs a {@code TripTime}.
+     * Constructs a {@code TripTime}. Seconds and nanoseconds of {@code tripTime} are ignored.
      *
      * @param tripTime A valid trip time.
      */
     public TripTime(LocalTime tripTime) {
+        this((short) toMinuteOfDay(requireNonNull(tripTime)));
+    }
+
+    private TripTime(short minuteOfDay) {
+        this.minuteOfDay = minuteOfDay;
+    }
+
+    /**
+     * Returns the shared {@code TripTime} at the given time. Seconds and nanoseconds of {@code tripTime} are ignored.
+     *
+     * @param tripTime A valid trip time.
+     */
+    public static TripTime of(LocalTime tripTime) {
         requireNonNull(tripTime);
-        this.value = tripTime;
+        return TRIP_TIMES[toMinuteOfDay(tripTime)];
+    }
+
+    /**
+     * Returns the shared {@code TripTime} at the given minute of the day, where 0 is midnight.
+     */
+    public static TripTime ofMinuteOfDay(int minuteOfDay) {
+        checkArgument(minuteOfDay >= 0 && minuteOfDay < MINUTES_IN_DAY, MESSAGE_CONSTRAINTS);
+        return TRIP_TIMES[minuteOfDay];
+    }
+
+    private static int toMinuteOfDay(LocalTime tripTime) {
+        return tripTime.getHour() * MINUTES_IN_HOUR + tripTime.getMinute();
+    }
+
+    private static String format(int minuteOfDay) {
+        int hour = minuteOfDay / MINUTES_IN_HOUR;
+        int minute = minuteOfDay % MINUTES_IN_HOUR;
+        char[] digits = new char[FORMATTED_LENGTH];
+        digits[0] = (char) ('0' + hour / 10);
+        digits[1] = (char) ('0' + hour % 10);
+        digits[2] = (char) ('0' + minute / 10);
+        digits[3] = (char) ('0' + minute % 10);
+        return new String(digits);
+    }
+
+    /**
+     * Returns the number of minutes from midnight to this trip time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
+    /**
+     * Returns this trip time as a {@code LocalTime}.
+     */
+    public LocalTime toLocalTime() {
+        return LocalTime.of(minuteOfDay / MINUTES_IN_HOUR, minuteOfDay % MINUTES_IN_HOUR);
     }
 
     /**
@@ -34,26 +97,37 @@ public class TripTime {
      */
     public long compareMinutes(TripTime otherTripTime) {
         requireNonNull(otherTripTime);
-        long timeDifference = ChronoUnit.MINUTES.between(this.value, otherTripTime.value);
+        return Math.abs(minuteOfDay - otherTripTime.minuteOfDay);
+    }
+
+    /**
+     * Appends this trip time in the {@code HHmm} format to {@code builder}, without creating a new {@code String}.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        requireNonNull(builder);
+        return builder.append(FORMATTED[minuteOfDay]);
+    }
 
-        return Math.abs(timeDifference);
+    @Override
+    public int compareTo(TripTime other) {
+        return Integer.compare(minuteOfDay, other.minuteOfDay);
     }
 
     @Override
     public String toString() {
-        return value.format(DateTimeFormatter.ofPattern("HHmm"));
+        return FORMATTED[minuteOfDay];
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TripTime // instanceof handles nulls
-                && value.equals(((TripTime) other).value)); // state check
+                && minuteOfDay == ((TripTime) other).minuteOfDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return minuteOfDay;
     }
 
 }
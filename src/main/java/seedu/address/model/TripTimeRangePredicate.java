@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.index.IndexedPassengerPredicate;
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * Tests that a {@code Passenger}'s {@code TripTime} is within the given range, inclusive of both ends.
+ * If a {@code TripDay} is given, the {@code Passenger}'s {@code TripDay} must also match it.
+ */
+public class TripTimeRangePredicate implements IndexedPassengerPredicate {
+    public static final String MESSAGE_CONSTRAINTS = "The start of a trip time range should not be after its end.";
+
+    private final Optional<TripDay> tripDay;
+    private final TripTime from;
+    private final TripTime to;
+
+    /**
+     * Every field must be present and not null, and {@code from} must not be after {@code to}.
+     */
+    public TripTimeRangePredicate(Optional<TripDay> tripDay, TripTime from, TripTime to) {
+        requireAllNonNull(tripDay, from, to);
+        checkArgument(isValidRange(from, to), MESSAGE_CONSTRAINTS);
+        this.tripDay = tripDay;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns true if {@code from} is not after {@code to}.
+     */
+    public static boolean isValidRange(TripTime from, TripTime to) {
+        return from.getMinuteOfDay() <= to.getMinuteOfDay();
+    }
+
+    @Override
+    public boolean test(Passenger passenger) {
+        int minuteOfDay = passenger.getTripTime().getMinuteOfDay();
+        return tripDay.map(day -> day.equals(passenger.getTripDay())).orElse(true)
+                && minuteOfDay >= from.getMinuteOfDay()
+                && minuteOfDay <= to.getMinuteOfDay();
+    }
+
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        if (tripDay.isPresent()) {
+            return addressBook.getPassengersByTripTime(tripDay.get(), from, to);
+        }
+
+        List<Passenger> candidates = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            candidates.addAll(addressBook.getPassengersByTripTime(TripDay.of(day), from, to));
+        }
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TripTimeRangePredicate // instanceof handles nulls
+                && tripDay.equals(((TripTimeRangePredicate) other).tripDay)
+                && from.equals(((TripTimeRangePredicate) other).from)
+                && to.equals(((TripTimeRangePredicate) other).to)); // state check
+    }
+
+}
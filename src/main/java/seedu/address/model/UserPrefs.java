@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +19,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "GMEdata.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private Map<String, String> commandAliases = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setCommandAliases(newUserPrefs.getCommandAliases());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public Map<String, String> getCommandAliases() {
+        return Collections.unmodifiableMap(commandAliases);
+    }
+
+    public void setCommandAliases(Map<String, String> commandAliases) {
+        requireNonNull(commandAliases);
+        this.commandAliases = new LinkedHashMap<>(commandAliases);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +94,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && commandAliases.equals(o.commandAliases);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, commandAliases);
     }
 
     @Override
@@ -81,6 +109,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
         return sb.toString();
     }
 
@@ -0,0 +1,20 @@
+package seedu.address.model.index;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * A passenger predicate that can narrow down the passengers it may match using the indexes of an {@code AddressBook}.
+ * Only the candidates need to be tested, instead of every passenger in the address book.
+ */
+public interface IndexedPassengerPredicate extends Predicate<Passenger> {
+
+    /**
+     * Returns the passengers in {@code addressBook} that may match this predicate.
+     * Every passenger in {@code addressBook} that matches this predicate must be returned.
+     */
+    Collection<Passenger> getCandidates(AddressBook addressBook);
+}
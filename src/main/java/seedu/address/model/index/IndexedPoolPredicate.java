@@ -0,0 +1,20 @@
+package seedu.address.model.index;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.pool.Pool;
+
+/**
+ * A pool predicate that can narrow down the pools it may match using the indexes of an {@code AddressBook}.
+ * Only the candidates need to be tested, instead of every pool in the address book.
+ */
+public interface IndexedPoolPredicate extends Predicate<Pool> {
+
+    /**
+     * Returns the pools in {@code addressBook} that may match this predicate.
+     * Every pool in {@code addressBook} that matches this predicate must be returned.
+     */
+    Collection<Pool> getCandidates(AddressBook addressBook);
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * Indexes passengers by the normalised words of their name, phone and address.
+ * A word is normalised by converting it to lower case; the words of a field are separated by whitespace, in the same
+ * way as the keyword predicates used by {@code find}.
+ */
+public class KeywordIndex implements PassengerIndex {
+
+    /**
+     * The passenger fields that are indexed.
+     */
+    public enum Field { NAME, PHONE, ADDRESS }
+
+    private final Map<Field, Map<String, Set<Passenger>>> passengersByWord = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code KeywordIndex}.
+     */
+    public KeywordIndex() {
+        for (Field field : Field.values()) {
+            passengersByWord.put(field, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void add(Passenger passenger) {
+        requireNonNull(passenger);
+        for (Field field : Field.values()) {
+            Map<String, Set<Passenger>> index = passengersByWord.get(field);
+            for (String word : getWords(passenger, field)) {
+                index.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(passenger);
+            }
+        }
+    }
+
+    @Override
+    public void remove(Passenger passenger) {
+        requireNonNull(passenger);
+        for (Field field : Field.values()) {
+            Map<String, Set<Passenger>> index = passengersByWord.get(field);
+            for (String word : getWords(passenger, field)) {
+                Set<Passenger> passengers = index.get(word);
+                if (passengers == null) {
+                    continue;
+                }
+                passengers.remove(passenger);
+                if (passengers.isEmpty()) {
+                    index.remove(word);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        passengersByWord.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns the passengers with {@code word} as one of the words of {@code field}, ignoring case.
+     */
+    public Set<Passenger> getPassengersWithWord(Field field, String word) {
+        requireAllNonNull(field, word);
+        Set<Passenger> passengers = passengersByWord.get(field).get(normalise(word));
+        return passengers == null ? Collections.emptySet() : Collections.unmodifiableSet(passengers);
+    }
+
+    /**
+     * Returns the passengers with a word of {@code field} that contains {@code fragment}, ignoring case.
+     * Every distinct word of {@code field} is checked, but passengers are not.
+     */
+    public Set<Passenger> getPassengersWithWordContaining(Field field, String fragment) {
+        requireAllNonNull(field, fragment);
+        String normalisedFragment = normalise(fragment);
+        Set<Passenger> passengers = Collections.newSetFromMap(new IdentityHashMap<>());
+        passengersByWord.get(field).forEach((word, passengersWithWord) -> {
+            if (word.contains(normalisedFragment)) {
+                passengers.addAll(passengersWithWord);
+            }
+        });
+        return passengers;
+    }
+
+    /**
+     * Returns the passengers whose {@code field} may contain {@code phrase}, ignoring case and repeated whitespace.
+     * Every word of {@code phrase} lies within a single word of a matching field, so only the passengers with a word
+     * containing the longest word of {@code phrase} are returned.
+     */
+    public Set<Passenger> getPassengersWithPhrase(Field field, String phrase) {
+        requireAllNonNull(field, phrase);
+        String longestWord = splitWords(phrase).stream()
+                .max(Comparator.comparingInt(String::length))
+                .orElse("");
+        return getPassengersWithWordContaining(field, longestWord);
+    }
+
+    /**
+     * Returns the distinct normalised words of {@code field} of {@code passenger}.
+     */
+    private static Set<String> getWords(Passenger passenger, Field field) {
+        return splitWords(getText(passenger, field));
+    }
+
+    /**
+     * Returns the text of {@code field} of {@code passenger}.
+     */
+    static String getText(Passenger passenger, Field field) {
+        switch (field) {
+        case NAME:
+            return passenger.getName().toString();
+        case PHONE:
+            return passenger.getPhone().toString();
+        case ADDRESS:
+            return passenger.getAddress().toString();
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    /**
+     * Splits {@code text} into its distinct normalised words.
+     */
+    private static Set<String> splitWords(String text) {
+        return Stream.of(text.split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(KeywordIndex::normalise)
+                .collect(Collectors.toSet());
+    }
+
+    private static String normalise(String word) {
+        return word.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * A secondary index over the passengers of a {@code UniquePassengerList}.
+ * The list notifies its indexes of every passenger added or removed, so that an index never has to rescan the list.
+ */
+public interface PassengerIndex {
+
+    /**
+     * Adds {@code passenger} to the index.
+     */
+    void add(Passenger passenger);
+
+    /**
+     * Removes {@code passenger} from the index.
+     * {@code passenger} must have been added to the index.
+     */
+    void remove(Passenger passenger);
+
+    /**
+     * Removes all passengers from the index.
+     */
+    void clear();
+}
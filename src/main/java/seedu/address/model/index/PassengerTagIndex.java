@@ -0,0 +1,13 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * A {@code TagIndex} over the passengers of a {@code UniquePassengerList}.
+ */
+public class PassengerTagIndex extends TagIndex<Passenger> implements PassengerIndex {
+
+    public PassengerTagIndex() {
+        super(Passenger::getTags);
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.person.passenger.Price;
+
+/**
+ * Indexes the passengers that have stated a price by that price, in cents.
+ * Passengers with the same price are kept in the order they were added. Passengers are matched by reference.
+ *
+ * The count and total of the prices are kept up to date on every change. A Fenwick tree over every possible price
+ * counts the passengers at or below a price, so the median is found in a number of steps that depends only on the
+ * highest possible price, not on the number of passengers.
+ */
+public class PriceIndex implements PassengerIndex {
+
+    private static final int TREE_SIZE = (int) Price.MAX_CENTS + 1;
+
+    private final NavigableMap<Long, List<Passenger>> passengersByPrice = new TreeMap<>();
+    private int[] countTree;
+    private int count;
+    private long totalCents;
+
+    @Override
+    public void add(Passenger passenger) {
+        requireNonNull(passenger);
+        if (passenger.getPrice().isEmpty()) {
+            return;
+        }
+
+        long cents = passenger.getPrice().get().getCents();
+        passengersByPrice.computeIfAbsent(cents, unused -> new ArrayList<>()).add(passenger);
+        updateCount(cents, 1);
+        count++;
+        totalCents += cents;
+    }
+
+    @Override
+    public void remove(Passenger passenger) {
+        requireNonNull(passenger);
+        if (passenger.getPrice().isEmpty()) {
+            return;
+        }
+
+        long cents = passenger.getPrice().get().getCents();
+        List<Passenger> passengers = passengersByPrice.get(cents);
+        if (passengers == null) {
+            return;
+        }
+        for (int i = 0; i < passengers.size(); i++) {
+            if (passengers.get(i) == passenger) {
+                passengers.remove(i);
+                if (passengers.isEmpty()) {
+                    passengersByPrice.remove(cents);
+                }
+                updateCount(cents, -1);
+                count--;
+                totalCents -= cents;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        passengersByPrice.clear();
+        countTree = null;
+        count = 0;
+        totalCents = 0;
+    }
+
+    /**
+     * Returns the passengers with a price from {@code fromCents} to {@code toCents} inclusive, sorted by price.
+     */
+    public List<Passenger> getPassengersBetween(long fromCents, long toCents) {
+        if (fromCents > toCents) {
+            return Collections.emptyList();
+        }
+
+        List<Passenger> matches = new ArrayList<>();
+        for (List<Passenger> passengers : passengersByPrice.subMap(fromCents, true, toCents, true).values()) {
+            matches.addAll(passengers);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns at most {@code limit} passengers with the highest prices, from the highest price down.
+     * Passengers with the same price are returned in the order they were added.
+     */
+    public List<Passenger> getPassengersWithHighestPrices(int limit) {
+        checkArgument(limit >= 0, "The number of passengers to return should not be negative.");
+        List<Passenger> matches = new ArrayList<>(Math.min(limit, count));
+        for (List<Passenger> passengers : passengersByPrice.descendingMap().values()) {
+            if (matches.size() + passengers.size() >= limit) {
+                matches.addAll(passengers.subList(0, limit - matches.size()));
+                break;
+            }
+            matches.addAll(passengers);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the count, total, lowest, highest and median of the indexed prices.
+     */
+    public PriceStatistics getStatistics() {
+        if (count == 0) {
+            return new PriceStatistics(0, 0, 0, 0, 0);
+        }
+
+        long lowerMedian = getPriceAtRank((count + 1) / 2);
+        long upperMedian = getPriceAtRank(count / 2 + 1);
+        long medianCents = (lowerMedian + upperMedian + 1) / 2;
+        return new PriceStatistics(count, totalCents, passengersByPrice.firstKey(), passengersByPrice.lastKey(),
+                medianCents);
+    }
+
+    /**
+     * Adds {@code delta} to the number of passengers with a price of {@code cents}.
+     */
+    private void updateCount(long cents, int delta) {
+        if (countTree == null) {
+            countTree = new int[TREE_SIZE + 1];
+        }
+        for (int i = (int) cents + 1; i <= TREE_SIZE; i += i & -i) {
+            countTree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the price of the passenger at {@code rank} when the passengers are sorted by price, where 1 is the
+     * lowest price. {@code rank} must be from 1 to the number of indexed passengers.
+     */
+    private long getPriceAtRank(int rank) {
+        int position = 0;
+        int remaining = rank;
+        for (int step = Integer.highestOneBit(TREE_SIZE); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= TREE_SIZE && countTree[next] < remaining) {
+                position = next;
+                remaining -= countTree[next];
+            }
+        }
+        return position;
+    }
+}
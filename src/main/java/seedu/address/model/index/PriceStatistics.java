@@ -0,0 +1,100 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.model.person.passenger.Price;
+
+/**
+ * Summarises the prices of the passengers that have stated one.
+ * Amounts are in cents. All amounts are 0 when no passenger has stated a price.
+ * Guarantees: immutable;
+ */
+public class PriceStatistics {
+
+    private final int count;
+    private final long totalCents;
+    private final long minCents;
+    private final long maxCents;
+    private final long medianCents;
+
+    /**
+     * Every amount must be non-negative, and all amounts must be 0 if {@code count} is 0.
+     * The median of an even number of prices is the mean of the two middle prices, rounded up to the nearest cent.
+     */
+    public PriceStatistics(int count, long totalCents, long minCents, long maxCents, long medianCents) {
+        checkArgument(count >= 0 && totalCents >= 0 && minCents >= 0 && maxCents >= 0 && medianCents >= 0);
+        checkArgument(count > 0 || totalCents == 0 && minCents == 0 && maxCents == 0 && medianCents == 0);
+        this.count = count;
+        this.totalCents = totalCents;
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+        this.medianCents = medianCents;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public long getMinCents() {
+        return minCents;
+    }
+
+    public long getMaxCents() {
+        return maxCents;
+    }
+
+    public long getMedianCents() {
+        return medianCents;
+    }
+
+    /**
+     * Returns the mean price in cents, rounded down, or 0 if no passenger has stated a price.
+     */
+    public long getMeanCents() {
+        return count == 0 ? 0 : totalCents / count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append(count).append(" price(s) stated");
+        if (count == 0) {
+            return builder.toString();
+        }
+        Price.appendCents(builder.append("; total: "), totalCents);
+        Price.appendCents(builder.append("; lowest: "), minCents);
+        Price.appendCents(builder.append("; highest: "), maxCents);
+        Price.appendCents(builder.append("; median: "), medianCents);
+        Price.appendCents(builder.append("; mean: "), getMeanCents());
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PriceStatistics)) {
+            return false;
+        }
+
+        PriceStatistics otherStatistics = (PriceStatistics) other;
+        return count == otherStatistics.count
+                && totalCents == otherStatistics.totalCents
+                && minCents == otherStatistics.minCents
+                && maxCents == otherStatistics.maxCents
+                && medianCents == otherStatistics.medianCents;
+    }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(count, totalCents, minCents, maxCents, medianCents);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes elements by their tags with one bitmap per tag.
+ * Every indexed element is given an ordinal, and the bitmap of a tag has the ordinals of the elements with that tag set.
+ * Tags are interned into a dictionary of ids, and the ordinals of removed elements are reused, so that the bitmaps
+ * stay dense. Elements are matched by reference.
+ *
+ * Tags are looked up by their {@code Tag#toString()} form, ignoring case, e.g. {@code [female]}.
+ *
+ * @param <T> the type of the indexed elements.
+ */
+public class TagIndex<T> {
+
+    private final Function<T, Set<Tag>> tagsOf;
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<BitSet> bitmaps = new ArrayList<>();
+    private final Map<T, Integer> ordinals = new IdentityHashMap<>();
+    private final List<T> elements = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    /**
+     * Creates an empty {@code TagIndex} that reads the tags of an element with {@code tagsOf}.
+     */
+    public TagIndex(Function<T, Set<Tag>> tagsOf) {
+        requireNonNull(tagsOf);
+        this.tagsOf = tagsOf;
+    }
+
+    /**
+     * Adds {@code element} to the index.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = elements.size();
+            elements.add(element);
+        } else {
+            ordinal = freeOrdinals.pop();
+            elements.set(ordinal, element);
+        }
+        ordinals.put(element, ordinal);
+
+        for (Tag tag : tagsOf.apply(element)) {
+            bitmaps.get(internTag(tag)).set(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code element} from the index, if it has been added.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        Integer ordinal = ordinals.remove(element);
+        if (ordinal == null) {
+            return;
+        }
+
+        for (Tag tag : tagsOf.apply(element)) {
+            Integer tagId = tagIds.get(normalise(tag.toString()));
+            if (tagId != null) {
+                bitmaps.get(tagId).clear(ordinal);
+            }
+        }
+        elements.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Removes all elements and tags from the index.
+     */
+    public void clear() {
+        tagIds.clear();
+        bitmaps.clear();
+        ordinals.clear();
+        elements.clear();
+        freeOrdinals.clear();
+    }
+
+    /**
+     * Returns the elements that have every tag of at least one of {@code tagGroups}, in no particular order.
+     * Each group is answered by intersecting the bitmaps of its tags, and the groups are combined by a union.
+     */
+    public List<T> getWithAllTagsOfAnyGroup(Collection<? extends Collection<String>> tagGroups) {
+        requireNonNull(tagGroups);
+        BitSet matches = new BitSet();
+        for (Collection<String> tagGroup : tagGroups) {
+            matches.or(getWithAllTags(tagGroup));
+        }
+
+        List<T> matchingElements = new ArrayList<>(matches.cardinality());
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            matchingElements.add(elements.get(ordinal));
+        }
+        return matchingElements;
+    }
+
+    /**
+     * Returns the bitmap of the elements that have every tag in {@code tags}.
+     * An empty group matches no elements.
+     */
+    private BitSet getWithAllTags(Collection<String> tags) {
+        BitSet matches = null;
+        for (String tag : tags) {
+            Integer tagId = tagIds.get(normalise(tag));
+            if (tagId == null) {
+                return new BitSet();
+            }
+            if (matches == null) {
+                matches = (BitSet) bitmaps.get(tagId).clone();
+            } else {
+                matches.and(bitmaps.get(tagId));
+            }
+        }
+        return matches == null ? new BitSet() : matches;
+    }
+
+    /**
+     * Returns the id of {@code tag} in the tag dictionary, adding it if it is not present.
+     */
+    private int internTag(Tag tag) {
+        return tagIds.computeIfAbsent(normalise(tag.toString()), unused -> {
+            bitmaps.add(new BitSet());
+            return bitmaps.size() - 1;
+        });
+    }
+
+    private static String normalise(String tag) {
+        return tag.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.index.KeywordIndex.Field;
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * Indexes passengers by the trigrams (substrings of three characters) of some of their fields.
+ * A field is normalised by converting it to lower case and replacing each run of whitespace with a single space, in
+ * the same way as the substring predicates used by {@code find}.
+ * A passenger whose field contains a phrase of at least three characters must contain every trigram of the phrase, so
+ * the candidates for a substring search are found by intersecting the passengers of each trigram.
+ */
+public class TrigramIndex implements PassengerIndex {
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<Field, Map<String, Set<Passenger>>> passengersByTrigram = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code TrigramIndex} over the given {@code fields}.
+     */
+    public TrigramIndex(Field... fields) {
+        requireAllNonNull((Object[]) fields);
+        for (Field field : fields) {
+            passengersByTrigram.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns true if {@code field} is indexed.
+     */
+    public boolean isIndexed(Field field) {
+        return passengersByTrigram.containsKey(field);
+    }
+
+    @Override
+    public void add(Passenger passenger) {
+        requireNonNull(passenger);
+        passengersByTrigram.forEach((field, index) -> {
+            for (String trigram : getTrigrams(normalise(KeywordIndex.getText(passenger, field)))) {
+                index.computeIfAbsent(trigram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(passenger);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Passenger passenger) {
+        requireNonNull(passenger);
+        passengersByTrigram.forEach((field, index) -> {
+            for (String trigram : getTrigrams(normalise(KeywordIndex.getText(passenger, field)))) {
+                Set<Passenger> passengers = index.get(trigram);
+                if (passengers == null) {
+                    continue;
+                }
+                passengers.remove(passenger);
+                if (passengers.isEmpty()) {
+                    index.remove(trigram);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void clear() {
+        passengersByTrigram.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns the passengers whose {@code field} may contain {@code phrase}, ignoring case.
+     * {@code field} must be indexed and {@code phrase} must be at least {@code TRIGRAM_LENGTH} characters long.
+     * The passengers returned still have to be checked against {@code phrase}.
+     */
+    public Set<Passenger> getPassengersWithPhrase(Field field, String phrase) {
+        requireAllNonNull(field, phrase);
+        checkArgument(isIndexed(field), "Field is not indexed: " + field);
+        checkArgument(phrase.length() >= TRIGRAM_LENGTH, "Phrase is shorter than a trigram: " + phrase);
+
+        Map<String, Set<Passenger>> index = passengersByTrigram.get(field);
+        List<Set<Passenger>> passengersPerTrigram = new ArrayList<>();
+        for (String trigram : getTrigrams(phrase.toLowerCase())) {
+            Set<Passenger> passengers = index.get(trigram);
+            if (passengers == null) {
+                return Collections.emptySet();
+            }
+            passengersPerTrigram.add(passengers);
+        }
+        passengersPerTrigram.sort(Comparator.comparingInt(Set::size));
+
+        Set<Passenger> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(passengersPerTrigram.get(0));
+        for (int i = 1; i < passengersPerTrigram.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(passengersPerTrigram.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}.
+     */
+    private static Set<String> getTrigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static String normalise(String text) {
+        return text.toLowerCase().replaceAll("\\s+", " ");
+    }
+}
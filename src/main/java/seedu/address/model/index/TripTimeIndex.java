@@ -0,0 +1,110 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.TripDay;
+import seedu.address.model.TripTime;
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * Indexes passengers by trip day, keeping the passengers of each day sorted by the minute of day of their trip time.
+ * Passengers with the same trip time are kept in the order they were added.
+ * Time range queries are answered with a binary search instead of a scan of all passengers.
+ */
+public class TripTimeIndex implements PassengerIndex {
+
+    private static final int DAYS_IN_WEEK = 7;
+
+    private final List<List<Passenger>> passengersByDay = new ArrayList<>(DAYS_IN_WEEK);
+
+    /**
+     * Creates an empty {@code TripTimeIndex}.
+     */
+    public TripTimeIndex() {
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            passengersByDay.add(new ArrayList<>());
+        }
+    }
+
+    @Override
+    public void add(Passenger passenger) {
+        requireNonNull(passenger);
+        List<Passenger> passengers = passengersByDay.get(passenger.getTripDay().getOrdinal());
+        int minuteOfDay = passenger.getTripTime().getMinuteOfDay();
+        passengers.add(upperBound(passengers, minuteOfDay), passenger);
+    }
+
+    @Override
+    public void remove(Passenger passenger) {
+        requireNonNull(passenger);
+        List<Passenger> passengers = passengersByDay.get(passenger.getTripDay().getOrdinal());
+        int minuteOfDay = passenger.getTripTime().getMinuteOfDay();
+        int end = upperBound(passengers, minuteOfDay);
+        for (int i = lowerBound(passengers, minuteOfDay); i < end; i++) {
+            if (passengers.get(i).equals(passenger)) {
+                passengers.remove(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        passengersByDay.forEach(List::clear);
+    }
+
+    /**
+     * Returns the passengers travelling on {@code tripDay} with a trip time from {@code from} to {@code to}
+     * inclusive, sorted by trip time.
+     */
+    public List<Passenger> getPassengersBetween(TripDay tripDay, TripTime from, TripTime to) {
+        requireAllNonNull(tripDay, from, to);
+        List<Passenger> passengers = passengersByDay.get(tripDay.getOrdinal());
+        int start = lowerBound(passengers, from.getMinuteOfDay());
+        int end = upperBound(passengers, to.getMinuteOfDay());
+        if (start >= end) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(passengers.subList(start, end)));
+    }
+
+    /**
+     * Returns the index of the first passenger in {@code passengers} with a trip time at or after
+     * {@code minuteOfDay}.
+     */
+    private static int lowerBound(List<Passenger> passengers, int minuteOfDay) {
+        int low = 0;
+        int high = passengers.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (passengers.get(mid).getTripTime().getMinuteOfDay() < minuteOfDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first passenger in {@code passengers} with a trip time after {@code minuteOfDay}.
+     */
+    private static int upperBound(List<Passenger> passengers, int minuteOfDay) {
+        int low = 0;
+        int high = passengers.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (passengers.get(mid).getTripTime().getMinuteOfDay() <= minuteOfDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
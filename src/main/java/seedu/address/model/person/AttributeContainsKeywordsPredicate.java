@@ -6,9 +6,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.ParserUtil.parseAttributePredicateKeywords;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
 import seedu.address.model.person.passenger.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.tag.TagContainsKeywordsPredicate;
@@ -17,8 +23,9 @@ import seedu.address.model.tag.TagContainsKeywordsPredicate;
  * Tests that a {@code Passenger}'s {@code Name}, {@code Phone}, {@code Address} or {@code Tag}
  * matches any of the keywords given.
  */
-public class AttributeContainsKeywordsPredicate implements Predicate<Passenger> {
+public class AttributeContainsKeywordsPredicate implements IndexedPassengerPredicate {
     private final List<String> keywords;
+    private final List<IndexedPassengerPredicate> attributePredicates;
     private final Predicate<Passenger> predicate;
 
     /**
@@ -40,16 +47,23 @@ public class AttributeContainsKeywordsPredicate implements Predicate<Passenger>
         List<String> keywordsForTags = parseAttributePredicateKeywords(keywords, PREFIX_TAG.toString());
         TagContainsKeywordsPredicate tagPredicate = new TagContainsKeywordsPredicate(keywordsForTags);
 
+        attributePredicates = List.of(namePredicate, phonePredicate, addressPredicate, tagPredicate);
         predicate = namePredicate.or(phonePredicate.or(addressPredicate.or(tagPredicate)));
     }
 
-
-
     @Override
     public boolean test(Passenger passenger) {
         return predicate.test(passenger);
     }
 
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        Set<Passenger> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        attributePredicates.forEach(attributePredicate ->
+                candidates.addAll(attributePredicate.getCandidates(addressBook)));
+        return candidates;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
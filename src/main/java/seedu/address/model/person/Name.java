@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Passenger's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final WeakInterner<String, Name> INTERNER = new WeakInterner<>(Name::new, n -> n.fullName);
+
     public final String fullName;
 
     /**
@@ -31,6 +35,16 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} with the given value, sharing the instance with any equal {@code Name} in use.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        return INTERNER.intern(name);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -1,14 +1,20 @@
 package seedu.address.model.person;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
+import seedu.address.model.index.KeywordIndex;
 import seedu.address.model.person.passenger.Passenger;
 
 /**
  * Tests that a {@code Passenger}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Passenger> {
+public class NameContainsKeywordsPredicate implements IndexedPassengerPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -17,13 +23,18 @@ public class NameContainsKeywordsPredicate implements Predicate<Passenger> {
 
     @Override
     public boolean test(Passenger passenger) {
-        return keywords.stream()
-                .anyMatch(keyword -> {
-                    String passengerNameLowerCase = passenger.getName().toString()
-                            .toLowerCase().replaceAll("\\s+", " ");
+        String passengerNameLowerCase = passenger.getName().toString()
+                .toLowerCase().replaceAll("\\s+", " ");
 
-                    return passengerNameLowerCase.contains(keyword);
-                });
+        return keywords.stream().anyMatch(passengerNameLowerCase::contains);
+    }
+
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        Set<Passenger> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword ->
+                candidates.addAll(addressBook.getPassengersWithPhrase(KeywordIndex.Field.NAME, keyword)));
+        return candidates;
     }
 
     @Override
@@ -8,6 +8,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 public abstract class Person {
     protected final Name name;
     protected final Phone phone;
+    private final PersonIdentity identity;
 
     /**
      * Every field must be present and not null.
@@ -16,6 +17,7 @@ public abstract class Person {
         requireAllNonNull(name, phone);
         this.name = name;
         this.phone = phone;
+        this.identity = new PersonIdentity(name, phone);
     }
 
     public Name getName() {
@@ -26,6 +28,13 @@ public abstract class Person {
         return phone;
     }
 
+    /**
+     * Returns the identity of this person, which can be used as a hash key for {@link #isSamePerson(Person)}.
+     */
+    public PersonIdentity getIdentity() {
+        return identity;
+    }
+
     /**
      * Returns true if both persons have the same name and phone.
      * This defines a weaker notion of equality between two persons.
@@ -36,7 +45,6 @@ public abstract class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().equals(getName())
-                && otherPerson.getPhone().equals(getPhone());
+                && otherPerson.getIdentity().equals(getIdentity());
     }
 }
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity of a {@code Person}, i.e. the fields compared by {@link Person#isSamePerson(Person)}.
+ * Used as a hash key so that identity lookups do not need to scan a whole list.
+ * Guarantees: immutable; two persons are the same person if and only if their identities are equal.
+ */
+public class PersonIdentity {
+
+    private final Name name;
+    private final Phone phone;
+    private final int hashCode;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonIdentity(Name name, Phone phone) {
+        requireAllNonNull(name, phone);
+        this.name = name;
+        this.phone = phone;
+        this.hashCode = Objects.hash(name, phone);
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return otherIdentity.name.equals(name)
+                && otherIdentity.phone.equals(phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return name + "; Phone: " + phone;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Passenger's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,8 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final WeakInterner<String, Phone> INTERNER = new WeakInterner<>(Phone::new, p -> p.value);
+
     public final String value;
 
     /**
@@ -26,6 +30,16 @@ public class Phone {
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} with the given value, sharing the instance with any equal {@code Phone} in use.
+     *
+     * @param phone A valid phone number.
+     */
+    public static Phone of(String phone) {
+        requireNonNull(phone);
+        return INTERNER.intern(phone);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
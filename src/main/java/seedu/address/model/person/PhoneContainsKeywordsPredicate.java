@@ -1,15 +1,21 @@
 package seedu.address.model.person;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
+import seedu.address.model.index.KeywordIndex;
 import seedu.address.model.person.passenger.Passenger;
 
 /**
  * Tests that a {@code Passenger}'s {@code Name} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Passenger> {
+public class PhoneContainsKeywordsPredicate implements IndexedPassengerPredicate {
     private final List<String> keywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +28,14 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Passenger> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(passenger.getPhone().toString(), keyword));
     }
 
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        Set<Passenger> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword ->
+                candidates.addAll(addressBook.getPassengersWithWord(KeywordIndex.Field.PHONE, keyword)));
+        return candidates;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,6 +3,8 @@ package seedu.address.model.person.passenger;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Passenger's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +19,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final WeakInterner<String, Address> INTERNER = new WeakInterner<>(Address::new, a -> a.value);
+
     public final String value;
 
     /**
@@ -30,6 +34,16 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns a {@code Address} with the given value, sharing the instance with any equal {@code Address} in use.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        requireNonNull(address);
+        return INTERNER.intern(address);
+    }
+
     /**
      * Returns true if a given string is a valid address.
      */
@@ -1,12 +1,19 @@
 package seedu.address.model.person.passenger;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
+import seedu.address.model.index.KeywordIndex;
 
 /**
  * Tests that a {@code Passenger}'s {@code Name} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Passenger> {
+public class AddressContainsKeywordsPredicate implements IndexedPassengerPredicate {
     private final List<String> keywords;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
@@ -15,13 +22,18 @@ public class AddressContainsKeywordsPredicate implements Predicate<Passenger> {
 
     @Override
     public boolean test(Passenger passenger) {
-        return keywords.stream()
-                .anyMatch(keyword -> {
-                    String passengerAddressLowerCase = passenger.getAddress().toString()
-                            .toLowerCase().replaceAll("\\s+", " ");
+        String passengerAddressLowerCase = passenger.getAddress().toString()
+                .toLowerCase().replaceAll("\\s+", " ");
+
+        return keywords.stream().anyMatch(passengerAddressLowerCase::contains);
+    }
 
-                    return passengerAddressLowerCase.contains(keyword);
-                });
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        Set<Passenger> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword ->
+                candidates.addAll(addressBook.getPassengersWithPhrase(KeywordIndex.Field.ADDRESS, keyword)));
+        return candidates;
     }
 
     @Override
@@ -4,16 +4,20 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents the highest price a passenger is willing to pay for a ride.
+ * The price is stored as a whole number of cents, so comparisons do not need to parse or box it.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
  */
-public class Price {
+public class Price implements Comparable<Price> {
 
 
     public static final String MESSAGE_CONSTRAINTS =
             "The price you are willing to pay should be entered as a positive decimal number rounded to 2 decimal "
                     + "places or a positive whole number no more than 3 digits long.";
     public static final String VALIDATION_REGEX = "\\d{1,3}(\\.\\d\\d?)?";
-    public final Double value;
+    public static final int CENTS_IN_DOLLAR = 100;
+    public static final long MAX_CENTS = 999_99;
+
+    private final long cents;
 
     /**
      * Constructs a {@code Price}.
@@ -22,7 +26,7 @@ public class Price {
      */
     public Price(double price) {
         checkArgument(isValidPrice(Double.toString(price)), MESSAGE_CONSTRAINTS);
-        value = price;
+        cents = toCents(price);
     }
 
     /**
@@ -32,21 +36,78 @@ public class Price {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code price} as a whole number of cents, rounded to the nearest cent.
+     */
+    public static long toCents(double price) {
+        return Math.round(price * CENTS_IN_DOLLAR);
+    }
+
+    /**
+     * Returns the price in cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the price in dollars.
+     */
+    public double getValue() {
+        return (double) cents / CENTS_IN_DOLLAR;
+    }
+
+    /**
+     * Returns true if this price is at least {@code otherCents} cents.
+     */
+    public boolean isAtLeast(long otherCents) {
+        return cents >= otherCents;
+    }
+
+    /**
+     * Appends this price to {@code builder} in the same format as {@link #toString()}, without creating a new
+     * {@code String}. A whole number of tens of cents is written with one decimal place, e.g. {@code 12.5} and
+     * {@code 12.0}, as a {@code double} would be.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return appendCents(builder, cents);
+    }
+
+    /**
+     * Appends {@code cents} to {@code builder} as an amount in dollars, in the same format as {@link #toString()}.
+     */
+    public static StringBuilder appendCents(StringBuilder builder, long cents) {
+        long remainder = cents % CENTS_IN_DOLLAR;
+        builder.append(cents / CENTS_IN_DOLLAR).append('.');
+        if (remainder % 10 == 0) {
+            return builder.append(remainder / 10);
+        }
+        if (remainder < 10) {
+            builder.append('0');
+        }
+        return builder.append(remainder);
+    }
+
+    @Override
+    public int compareTo(Price other) {
+        return Long.compare(cents, other.cents);
+    }
+
     @Override
     public String toString() {
-        return Double.toString(value);
+        return appendTo(new StringBuilder()).toString();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Price // instanceof handles nulls
-                && value.equals(((Price) other).value)); // state check
+                && cents == ((Price) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return Double.hashCode(value);
+        return Long.hashCode(cents);
     }
 
 }
@@ -0,0 +1,49 @@
+package seedu.address.model.person.passenger;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
+
+/**
+ * Tests that a {@code Passenger} is one of a given number of passengers with the highest prices.
+ * A passenger added or edited after the highest prices were looked up matches if its price is at least the lowest of
+ * those prices.
+ */
+public class PriceIsAmongHighestPredicate implements IndexedPassengerPredicate {
+    private final int limit;
+    private final long lowestCents;
+
+    /**
+     * Constructs a predicate that matches the {@code limit} passengers with the highest prices, the lowest of which
+     * is {@code lowestCents}.
+     */
+    public PriceIsAmongHighestPredicate(int limit, long lowestCents) {
+        checkArgument(limit >= 0, "The number of passengers to match should not be negative.");
+        this.limit = limit;
+        this.lowestCents = lowestCents;
+    }
+
+    @Override
+    public boolean test(Passenger passenger) {
+        Optional<Price> passengerPrice = passenger.getPrice();
+        return passengerPrice.isPresent() && passengerPrice.get().isAtLeast(lowestCents);
+    }
+
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        return addressBook.getPassengersWithHighestPrices(limit);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PriceIsAmongHighestPredicate // instanceof handles nulls
+                && limit == ((PriceIsAmongHighestPredicate) other).limit
+                && lowestCents == ((PriceIsAmongHighestPredicate) other).lowestCents); // state check
+    }
+
+}
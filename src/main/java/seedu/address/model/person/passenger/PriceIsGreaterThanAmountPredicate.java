@@ -1,28 +1,35 @@
 package seedu.address.model.person.passenger;
 
-import java.util.function.Predicate;
+import java.util.Collection;
+import java.util.Optional;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
 
 /**
- * Tests that a {@code Passenger}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Passenger}'s {@code Price} is at least the amount given.
  */
-public class PriceIsGreaterThanAmountPredicate implements Predicate<Passenger> {
+public class PriceIsGreaterThanAmountPredicate implements IndexedPassengerPredicate {
     private final Double price;
+    private final long cents;
 
+    /**
+     * Constructs a predicate that matches a {@code Passenger} willing to pay at least {@code price}.
+     */
     public PriceIsGreaterThanAmountPredicate(Double price) {
         this.price = price;
+        this.cents = Price.toCents(price);
     }
 
     @Override
     public boolean test(Passenger passenger) {
-        if (passenger.getPrice().isPresent()) {
-            Price priceToCompare = passenger.getPrice().get();
-            double userPrice = Double.parseDouble(priceToCompare.toString());
-
-            return userPrice >= this.price;
-        } else {
-            return false;
-        }
+        Optional<Price> passengerPrice = passenger.getPrice();
+        return passengerPrice.isPresent() && passengerPrice.get().isAtLeast(cents);
+    }
+
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        return addressBook.getPassengersByPrice(cents, Price.MAX_CENTS);
     }
 
     @Override
@@ -0,0 +1,60 @@
+package seedu.address.model.person.passenger;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
+
+/**
+ * Tests that a {@code Passenger}'s {@code Price} is within the given range, inclusive of both ends.
+ * Passengers that have not stated a price never match.
+ */
+public class PriceRangePredicate implements IndexedPassengerPredicate {
+    public static final String MESSAGE_CONSTRAINTS = "The start of a price range should not be above its end.";
+
+    private final Price from;
+    private final Price to;
+
+    /**
+     * Every field must be present and not null, and {@code from} must not be above {@code to}.
+     */
+    public PriceRangePredicate(Price from, Price to) {
+        requireAllNonNull(from, to);
+        checkArgument(isValidRange(from, to), MESSAGE_CONSTRAINTS);
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns true if {@code from} is not above {@code to}.
+     */
+    public static boolean isValidRange(Price from, Price to) {
+        return from.compareTo(to) <= 0;
+    }
+
+    @Override
+    public boolean test(Passenger passenger) {
+        Optional<Price> price = passenger.getPrice();
+        return price.isPresent()
+                && price.get().isAtLeast(from.getCents())
+                && to.isAtLeast(price.get().getCents());
+    }
+
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        return addressBook.getPassengersByPrice(from.getCents(), to.getCents());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PriceRangePredicate // instanceof handles nulls
+                && from.equals(((PriceRangePredicate) other).from)
+                && to.equals(((PriceRangePredicate) other).to)); // state check
+    }
+
+}
@@ -4,11 +4,18 @@ package seedu.address.model.person.passenger;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.index.PassengerIndex;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.person.passenger.exceptions.DuplicatePassengerException;
 import seedu.address.model.person.passenger.exceptions.PassengerNotFoundException;
 
@@ -20,6 +27,9 @@ import seedu.address.model.person.passenger.exceptions.PassengerNotFoundExceptio
  * Passenger#equals(Object) so as to ensure that the passenger with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Identity lookups are answered by a hash index on {@code PersonIdentity} that is kept in sync with the backing list.
+ * Further secondary indexes can be attached with {@link #addIndex(PassengerIndex)}; they are notified of every
+ * passenger added to or removed from the list.
  *
  * @see Passenger#isSamePerson(Passenger)
  */
@@ -28,13 +38,27 @@ public class UniquePassengerList implements Iterable<Passenger> {
     private final ObservableList<Passenger> internalList = FXCollections.observableArrayList();
     private final ObservableList<Passenger> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonIdentity, Passenger> identityIndex = new HashMap<>();
+    private final List<PassengerIndex> indexes = new ArrayList<>();
+    private long modificationCount;
+
+    /**
+     * Attaches {@code index} to this list and adds all passengers currently in the list to it.
+     * The index is kept in sync with the list from then on.
+     */
+    public void addIndex(PassengerIndex index) {
+        requireNonNull(index);
+        index.clear();
+        internalList.forEach(index::add);
+        indexes.add(index);
+    }
 
     /**
      * Returns true if the list contains an equivalent passenger as the given argument.
      */
     public boolean contains(Passenger toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -42,7 +66,7 @@ public class UniquePassengerList implements Iterable<Passenger> {
      */
     public boolean containsEqual(Passenger toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return toCheck.equals(identityIndex.get(toCheck.getIdentity()));
     }
 
     /**
@@ -55,6 +79,9 @@ public class UniquePassengerList implements Iterable<Passenger> {
             throw new DuplicatePassengerException();
         }
         internalList.add(toAdd);
+        modificationCount++;
+        identityIndex.put(toAdd.getIdentity(), toAdd);
+        indexes.forEach(index -> index.add(toAdd));
     }
 
     /**
@@ -65,8 +92,7 @@ public class UniquePassengerList implements Iterable<Passenger> {
     public void setPassenger(Passenger target, Passenger editedPassenger) {
         requireAllNonNull(target, editedPassenger);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!containsEqual(target)) {
             throw new PassengerNotFoundException();
         }
 
@@ -74,7 +100,16 @@ public class UniquePassengerList implements Iterable<Passenger> {
             throw new DuplicatePassengerException();
         }
 
+        int index = internalList.indexOf(target);
+        assert index != -1 : "identity index out of sync with passenger list";
         internalList.set(index, editedPassenger);
+        modificationCount++;
+        Passenger replaced = identityIndex.remove(target.getIdentity());
+        identityIndex.put(editedPassenger.getIdentity(), editedPassenger);
+        indexes.forEach(passengerIndex -> {
+            passengerIndex.remove(replaced);
+            passengerIndex.add(editedPassenger);
+        });
     }
 
     /**
@@ -83,14 +118,20 @@ public class UniquePassengerList implements Iterable<Passenger> {
      */
     public void remove(Passenger toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!containsEqual(toRemove)) {
             throw new PassengerNotFoundException();
         }
+        internalList.remove(toRemove);
+        modificationCount++;
+        Passenger removed = identityIndex.remove(toRemove.getIdentity());
+        indexes.forEach(index -> index.remove(removed));
     }
 
     public void setPassengers(UniquePassengerList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
+        rebuildIdentityIndex();
     }
 
     /**
@@ -104,6 +145,16 @@ public class UniquePassengerList implements Iterable<Passenger> {
         }
 
         internalList.setAll(passengers);
+        modificationCount++;
+        rebuildIdentityIndex();
+    }
+
+    /**
+     * Returns the number of times the list has been modified.
+     * The count only ever increases, so an unchanged count means that the list has not been modified.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -130,15 +181,26 @@ public class UniquePassengerList implements Iterable<Passenger> {
         return internalList.hashCode();
     }
 
+    /**
+     * Rebuilds the identity index and all attached indexes from the contents of the backing list.
+     */
+    private void rebuildIdentityIndex() {
+        identityIndex.clear();
+        indexes.forEach(PassengerIndex::clear);
+        for (Passenger passenger : internalList) {
+            identityIndex.put(passenger.getIdentity(), passenger);
+            indexes.forEach(index -> index.add(passenger));
+        }
+    }
+
     /**
      * Returns true if {@code passengers} contains only unique passengers.
      */
     private boolean passengersAreUnique(List<Passenger> passengers) {
-        for (int i = 0; i < passengers.size() - 1; i++) {
-            for (int j = i + 1; j < passengers.size(); j++) {
-                if (passengers.get(i).isSamePerson(passengers.get(j))) {
-                    return false;
-                }
+        Set<PersonIdentity> seenIdentities = new HashSet<>();
+        for (Passenger passenger : passengers) {
+            if (!seenIdentities.add(passenger.getIdentity())) {
+                return false;
             }
         }
         return true;
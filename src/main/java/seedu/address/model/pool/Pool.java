@@ -28,7 +28,7 @@ public class Pool {
     private final TripTime tripTime;
     private final List<Passenger> passengers;
     private final Set<Tag> tags = new HashSet<>();
-
+    private final PoolIdentity identity;
 
     /**
      * Every field must be present and not null. Ensures a pool cannot be created with no passengers.
@@ -46,6 +46,7 @@ public class Pool {
         this.driver = driver;
         this.passengers = new ArrayList<>(passengers);
         this.tags.addAll(tags);
+        this.identity = new PoolIdentity(tripDay, tripTime, driver.getIdentity());
     }
 
     public String getTripDayAsStr() {
@@ -109,6 +110,13 @@ public class Pool {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the identity of this pool, which can be used as a hash key for {@link #isSamePool(Pool)}.
+     */
+    public PoolIdentity getIdentity() {
+        return identity;
+    }
+
     /**
      * Returns true if both trips have same driver, date, and time.
      * This defines a weaker notion of equality between two trips.
@@ -119,9 +127,7 @@ public class Pool {
         }
 
         return otherPool != null
-                && otherPool.getDriver().equals(getDriver())
-                && otherPool.getTripDay().equals(getTripDay())
-                && otherPool.getTripTime().equals(getTripTime());
+                && otherPool.getIdentity().equals(getIdentity());
     }
 
     /**
@@ -0,0 +1,71 @@
+package seedu.address.model.pool;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.TripDay;
+import seedu.address.model.TripTime;
+import seedu.address.model.person.PersonIdentity;
+
+/**
+ * Represents the identity of a {@code Pool}, i.e. the trip day, trip time and driver compared by
+ * {@link Pool#isSamePool(Pool)}. Used as a hash key so that pool conflict checks do not need to scan a whole list.
+ * Guarantees: immutable; two pools are the same pool if and only if their identities are equal.
+ */
+public class PoolIdentity {
+
+    private final TripDay tripDay;
+    private final TripTime tripTime;
+    private final PersonIdentity driverIdentity;
+    private final int hashCode;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PoolIdentity(TripDay tripDay, TripTime tripTime, PersonIdentity driverIdentity) {
+        requireAllNonNull(tripDay, tripTime, driverIdentity);
+        this.tripDay = tripDay;
+        this.tripTime = tripTime;
+        this.driverIdentity = driverIdentity;
+        this.hashCode = Objects.hash(tripDay, tripTime, driverIdentity);
+    }
+
+    public TripDay getTripDay() {
+        return tripDay;
+    }
+
+    public TripTime getTripTime() {
+        return tripTime;
+    }
+
+    public PersonIdentity getDriverIdentity() {
+        return driverIdentity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PoolIdentity)) {
+            return false;
+        }
+
+        PoolIdentity otherIdentity = (PoolIdentity) other;
+        return otherIdentity.tripDay.equals(tripDay)
+                && otherIdentity.tripTime.equals(tripTime)
+                && otherIdentity.driverIdentity.equals(driverIdentity);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return driverIdentity + "; Pool Day: " + tripDay + "; Pool Time: " + tripTime;
+    }
+}
@@ -3,15 +3,24 @@ package seedu.address.model.pool;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.TripDay;
 import seedu.address.model.TripTime;
+import seedu.address.model.index.TagIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.exceptions.DuplicatePoolException;
 import seedu.address.model.pool.exceptions.PoolNotFoundException;
@@ -24,6 +33,8 @@ import seedu.address.model.pool.exceptions.PoolNotFoundException;
  * Pool#equals(Object) so as to ensure that the pool with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Hash indexes on pool identity, driver identity and passenger identity are kept in sync with the backing list,
+ * so that duplicate, conflict and membership checks do not need to scan every pool. Pools are also indexed by tag.
  *
  * @see Pool#isSamePool(Pool)
  */
@@ -32,13 +43,18 @@ public class UniquePoolList implements Iterable<Pool> {
     private final ObservableList<Pool> internalList = FXCollections.observableArrayList();
     private final ObservableList<Pool> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PoolIdentity, Pool> identityIndex = new HashMap<>();
+    private final Map<PersonIdentity, List<Pool>> driverIndex = new HashMap<>();
+    private final Map<PersonIdentity, List<Pool>> passengerIndex = new HashMap<>();
+    private final TagIndex<Pool> tagIndex = new TagIndex<>(Pool::getTags);
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent pool as the given argument.
      */
     public boolean contains(Pool toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePool);
+        return identityIndex.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -51,6 +67,8 @@ public class UniquePoolList implements Iterable<Pool> {
             throw new DuplicatePoolException();
         }
         internalList.add(toAdd);
+        modificationCount++;
+        indexPool(toAdd);
     }
 
     /**
@@ -70,7 +88,10 @@ public class UniquePoolList implements Iterable<Pool> {
             throw new DuplicatePoolException();
         }
 
-        internalList.set(index, editedPool);
+        Pool replacedPool = internalList.set(index, editedPool);
+        modificationCount++;
+        unindexPool(replacedPool);
+        indexPool(editedPool);
     }
 
     /**
@@ -79,14 +100,20 @@ public class UniquePoolList implements Iterable<Pool> {
      */
     public void remove(Pool toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PoolNotFoundException();
         }
+        Pool removedPool = internalList.remove(index);
+        modificationCount++;
+        unindexPool(removedPool);
     }
 
     public void setPools(UniquePoolList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
+        rebuildIndexes();
     }
 
     /**
@@ -100,6 +127,8 @@ public class UniquePoolList implements Iterable<Pool> {
         }
 
         internalList.setAll(pool);
+        modificationCount++;
+        rebuildIndexes();
     }
 
     /**
@@ -108,11 +137,21 @@ public class UniquePoolList implements Iterable<Pool> {
     public void setPassenger(Passenger target, Passenger editedPassenger) {
         requireAllNonNull(target, editedPassenger);
 
-        List<Pool> newList = internalList.stream()
-                .map(pool -> pool.setPassenger(target, editedPassenger))
-                .collect(Collectors.toList());
+        // copied as the index is updated while the affected pools are replaced
+        List<Pool> affectedPools = new ArrayList<>(getPoolsWithPassenger(target));
+        for (Pool pool : affectedPools) {
+            Pool editedPool = pool.setPassenger(target, editedPassenger);
+            if (editedPool == pool) {
+                continue;
+            }
 
-        internalList.setAll(newList);
+            int index = internalList.indexOf(pool);
+            assert index != -1 : "passenger index out of sync with pool list";
+            internalList.set(index, editedPool);
+            modificationCount++;
+            unindexPool(pool);
+            indexPool(editedPool);
+        }
     }
 
     /**
@@ -121,17 +160,123 @@ public class UniquePoolList implements Iterable<Pool> {
      * @return true if at least one pool contains {@code key}, false otherwise.
      */
     public boolean containsPassenger(Passenger key) {
-        return internalList.stream().anyMatch(pool -> pool.hasPassenger(key));
+        requireNonNull(key);
+        return getPoolsWithPassenger(key).stream().anyMatch(pool -> pool.hasPassenger(key));
     }
 
     /**
-     * Returns true if a pool that contains the given {@code driver} exists.
+     * Returns true if a pool that contains the given {@code driver} as one of its passengers exists.
      */
     public boolean containsDriver(Person driver) {
-        return internalList.stream().anyMatch(pool ->
-                pool.getPassengers().stream().anyMatch(pass -> pass.isSamePerson(driver))
-                        && pool.getDriver().isSamePerson(driver)
-        );
+        requireNonNull(driver);
+        return getPoolsWithPassenger(driver).stream().anyMatch(pool -> pool.getDriver().isSamePerson(driver));
+    }
+
+    /**
+     * Returns true if a pool with the same tripDay, tripTime, and person as Driver exists.
+     */
+    public boolean hasPoolWithDayTimePerson(TripDay tripDay, TripTime tripTime, Person person) {
+        requireAllNonNull(tripDay, tripTime, person);
+        return identityIndex.containsKey(new PoolIdentity(tripDay, tripTime, person.getIdentity()));
+    }
+
+    /**
+     * Returns the pools driven by {@code driver} on {@code tripDay}, sorted by trip time.
+     */
+    public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay) {
+        requireAllNonNull(driver, tripDay);
+        return driverIndex.getOrDefault(driver.getIdentity(), Collections.emptyList()).stream()
+                .filter(pool -> pool.getTripDay().equals(tripDay))
+                .sorted(Comparator.comparing(Pool::getTripTime))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the pools driven by {@code driver} on {@code tripDay} at {@code tripTime}.
+     * As pools are unique, the returned list contains at most one pool.
+     */
+    public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay, TripTime tripTime) {
+        requireAllNonNull(driver, tripDay, tripTime);
+        Pool pool = identityIndex.get(new PoolIdentity(tripDay, tripTime, driver.getIdentity()));
+        return pool == null ? Collections.emptyList() : List.of(pool);
+    }
+
+    /**
+     * Returns the pools that have every tag of at least one of {@code tagGroups}, ignoring case.
+     * Tags are given in their {@code Tag#toString()} form.
+     */
+    public List<Pool> getPoolsWithAllTagsOfAnyGroup(List<List<String>> tagGroups) {
+        requireNonNull(tagGroups);
+        return tagIndex.getWithAllTagsOfAnyGroup(tagGroups);
+    }
+
+    /**
+     * Returns the pools that contain a passenger with the same identity as {@code person}.
+     */
+    private List<Pool> getPoolsWithPassenger(Person person) {
+        return passengerIndex.getOrDefault(person.getIdentity(), Collections.emptyList());
+    }
+
+    /**
+     * Adds {@code pool} to the identity, tag, driver and passenger indexes.
+     */
+    private void indexPool(Pool pool) {
+        identityIndex.put(pool.getIdentity(), pool);
+        tagIndex.add(pool);
+        addToIndex(driverIndex, pool.getDriver().getIdentity(), pool);
+        for (Passenger passenger : pool.getPassengers()) {
+            addToIndex(passengerIndex, passenger.getIdentity(), pool);
+        }
+    }
+
+    /**
+     * Removes {@code pool} from the identity, tag, driver and passenger indexes.
+     * Pools are matched by reference, as {@code Pool#equals(Object)} does not compare passengers.
+     */
+    private void unindexPool(Pool pool) {
+        if (identityIndex.get(pool.getIdentity()) == pool) {
+            identityIndex.remove(pool.getIdentity());
+        }
+        tagIndex.remove(pool);
+        removeFromIndex(driverIndex, pool.getDriver().getIdentity(), pool);
+        for (Passenger passenger : pool.getPassengers()) {
+            removeFromIndex(passengerIndex, passenger.getIdentity(), pool);
+        }
+    }
+
+    private static void addToIndex(Map<PersonIdentity, List<Pool>> index, PersonIdentity key, Pool pool) {
+        index.computeIfAbsent(key, unused -> new ArrayList<>()).add(pool);
+    }
+
+    private static void removeFromIndex(Map<PersonIdentity, List<Pool>> index, PersonIdentity key, Pool pool) {
+        List<Pool> pools = index.get(key);
+        if (pools == null) {
+            return;
+        }
+
+        pools.removeIf(indexedPool -> indexedPool == pool);
+        if (pools.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Rebuilds all indexes from the contents of the backing list.
+     */
+    private void rebuildIndexes() {
+        identityIndex.clear();
+        driverIndex.clear();
+        passengerIndex.clear();
+        tagIndex.clear();
+        internalList.forEach(this::indexPool);
+    }
+
+    /**
+     * Returns the number of times the list has been modified.
+     * The count only ever increases, so an unchanged count means that the list has not been modified.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -162,23 +307,12 @@ public class UniquePoolList implements Iterable<Pool> {
      * Returns true if {@code pool} contains only unique pool.
      */
     private boolean poolsAreUnique(List<Pool> pool) {
-        for (int i = 0; i < pool.size() - 1; i++) {
-            for (int j = i + 1; j < pool.size(); j++) {
-                if (pool.get(i).isSamePool(pool.get(j))) {
-                    return false;
-                }
+        Set<PoolIdentity> seenIdentities = new HashSet<>();
+        for (Pool p : pool) {
+            if (!seenIdentities.add(p.getIdentity())) {
+                return false;
             }
         }
         return true;
     }
-
-    /**
-     * Returns true if a pool with the same tripDay, tripTime, and person as Driver exists.
-     */
-    public boolean hasPoolWithDayTimePerson(TripDay tripDay, TripTime tripTime, Person person) {
-        return this.internalList.stream().anyMatch(pool -> pool.getTripDay().equals(tripDay)
-                && pool.getTripTime().equals(tripTime)
-                && pool.getDriver().isSamePerson(person)
-        );
-    }
 }
@@ -0,0 +1,43 @@
+package seedu.address.model.tag;
+
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPoolPredicate;
+import seedu.address.model.pool.Pool;
+
+/**
+ * Tests that a {@code Pool}'s {@code Tag}s match any of the keywords given.
+ * A keyword may list several tags separated by whitespace, in which case the {@code Pool} must have all of them.
+ */
+public class PoolTagContainsKeywordsPredicate implements IndexedPoolPredicate {
+    private final List<String> keywords;
+    private final List<List<String>> tagGroups;
+
+    /**
+     * Constructs a predicate that matches a {@code Pool} with all the tags of any of the {@code keywords}.
+     */
+    public PoolTagContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.tagGroups = TagContainsKeywordsPredicate.toTagGroups(keywords);
+    }
+
+    @Override
+    public boolean test(Pool pool) {
+        return TagContainsKeywordsPredicate.hasAllTagsOfAnyGroup(pool.getTags(), tagGroups);
+    }
+
+    @Override
+    public Collection<Pool> getCandidates(AddressBook addressBook) {
+        return addressBook.getPoolsWithAllTagsOfAnyGroup(tagGroups);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PoolTagContainsKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((PoolTagContainsKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +15,8 @@ public class Tag {
             + "30 characters.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final WeakInterner<String, Tag> INTERNER = new WeakInterner<>(Tag::new, t -> t.tagName);
+
     public final String tagName;
 
     /**
@@ -26,6 +30,16 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} with the given value, sharing the instance with any equal {@code Tag} in use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return INTERNER.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -1,28 +1,39 @@
 package seedu.address.model.tag;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPassengerPredicate;
 import seedu.address.model.person.passenger.Passenger;
 
 /**
- * Tests that a {@code Passenger}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Passenger}'s {@code Tag}s match any of the keywords given.
+ * A keyword may list several tags separated by whitespace, in which case the {@code Passenger} must have all of them.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Passenger> {
+public class TagContainsKeywordsPredicate implements IndexedPassengerPredicate {
     private final List<String> keywords;
+    private final List<List<String>> tagGroups;
 
+    /**
+     * Constructs a predicate that matches a {@code Passenger} with all the tags of any of the {@code keywords}.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.tagGroups = toTagGroups(keywords);
     }
 
     @Override
     public boolean test(Passenger passenger) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                    passenger.getTags().stream().anyMatch(tag ->
-                        StringUtil.containsWordIgnoreCase(tag.toString(), keyword)
-                ));
+        return hasAllTagsOfAnyGroup(passenger.getTags(), tagGroups);
+    }
+
+    @Override
+    public Collection<Passenger> getCandidates(AddressBook addressBook) {
+        return addressBook.getPassengersWithAllTagsOfAnyGroup(tagGroups);
     }
 
     @Override
@@ -32,4 +43,25 @@ public class TagContainsKeywordsPredicate implements Predicate<Passenger> {
                 && keywords.equals(((TagContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    /**
+     * Splits each of {@code keywords} into the group of tags it lists.
+     * Keywords that do not list any tag are dropped.
+     */
+    static List<List<String>> toTagGroups(List<String> keywords) {
+        return keywords.stream()
+                .map(keyword -> Stream.of(keyword.trim().split("\\s+"))
+                        .filter(tag -> !tag.isEmpty())
+                        .collect(Collectors.toList()))
+                .filter(tagGroup -> !tagGroup.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code tags} contains every tag of at least one of {@code tagGroups}, ignoring case.
+     */
+    static boolean hasAllTagsOfAnyGroup(Set<Tag> tags, List<List<String>> tagGroups) {
+        return tagGroups.stream()
+                .anyMatch(tagGroup -> tagGroup.stream()
+                        .allMatch(keyword -> tags.stream().anyMatch(tag -> tag.toString().equalsIgnoreCase(keyword))));
+    }
 }
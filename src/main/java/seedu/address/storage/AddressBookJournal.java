@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only file of {@code JsonJournalEntry}s, one compact JSON entry per line, that records the changes made
+ * to an address book since its last snapshot was saved.
+ * The first line of the journal holds the checksum of the snapshot the entries apply to, so that a journal left
+ * behind by an older snapshot, e.g. when saving a snapshot was interrupted, is ignored instead of replayed twice.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+    private int entryCount;
+    private boolean isResetNeeded = true;
+
+    public AddressBookJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of entries in the journal, as of when it was last read, reset or appended to.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns true if the journal must be reset before entries can be appended to it. This is the case until the
+     * journal has been read and found to belong to the snapshot, or has been reset. It is also the case if reading
+     * stopped at an entry that could not be read, e.g. one that was only partly written, as entries appended after it
+     * would never be replayed.
+     */
+    public boolean isResetNeeded() {
+        return isResetNeeded;
+    }
+
+    /**
+     * Returns the entries recorded for the snapshot with the checksum {@code snapshotChecksum}, in order.
+     * Returns an empty list if the journal is missing or was started for a different snapshot.
+     * Reading stops at the first entry that cannot be read.
+     *
+     * @throws IOException if the journal cannot be read.
+     */
+    public List<JsonJournalEntry> read(long snapshotChecksum) throws IOException {
+        entryCount = 0;
+        isResetNeeded = true;
+        if (!FileUtil.isFileExists(filePath)) {
+            return Collections.emptyList();
+        }
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !isHeaderFor(lines.get(0), snapshotChecksum)) {
+            logger.info("Journal " + filePath + " does not belong to the saved snapshot and is ignored");
+            return Collections.emptyList();
+        }
+
+        isResetNeeded = false;
+        List<JsonJournalEntry> entries = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonJournalEntry.class));
+            } catch (IOException e) {
+                logger.warning("Stopped replaying journal " + filePath + " at an unreadable entry: " + e);
+                isResetNeeded = true;
+                break;
+            }
+        }
+        entryCount = entries.size();
+        return entries;
+    }
+
+    /**
+     * Replaces the journal with an empty one for the snapshot with the checksum {@code snapshotChecksum}.
+     *
+     * @throws IOException if the journal cannot be written.
+     */
+    public void reset(long snapshotChecksum) throws IOException {
+        byte[] header = toLine(new JsonJournalHeader(snapshotChecksum));
+        FileUtil.writeAtomically(filePath, out -> out.write(header));
+        entryCount = 0;
+        isResetNeeded = false;
+    }
+
+    /**
+     * Appends {@code entry} to the end of the journal, and forces it to the disk before returning, so that a change
+     * that has been reported as saved survives a crash.
+     *
+     * @throws IOException if the entry cannot be written.
+     */
+    public void append(JsonJournalEntry entry) throws IOException {
+        requireNonNull(entry);
+        assert !isResetNeeded : "The journal must be reset before entries are appended";
+        ByteBuffer line = ByteBuffer.wrap(toLine(entry));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            channel.force(false);
+        }
+        entryCount++;
+    }
+
+    private static byte[] toLine(Object value) throws IOException {
+        return (JsonUtil.toCompactJsonString(value) + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isHeaderFor(String line, long snapshotChecksum) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonJournalHeader.class).snapshotChecksum == snapshotChecksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Jackson-friendly header of a journal.
+     */
+    private static class JsonJournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        public JsonJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
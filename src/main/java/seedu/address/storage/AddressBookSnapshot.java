@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+
+/**
+ * An immutable copy of the contents of a {@code ReadOnlyAddressBook} at the time it was taken.
+ * Passengers and pools are immutable, so only the lists are copied and the elements are shared with the original.
+ * This makes a snapshot cheap to take and safe to hand over to another thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Passenger> passengers;
+    private final ObservableList<Pool> pools;
+
+    private AddressBookSnapshot(ObservableList<Passenger> passengers, ObservableList<Pool> pools) {
+        this.passengers = passengers;
+        this.pools = pools;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        return new AddressBookSnapshot(
+                FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(addressBook.getPassengerList())),
+                FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(addressBook.getPoolList())));
+    }
+
+    /**
+     * Returns a snapshot holding the given passengers and pools.
+     */
+    static AddressBookSnapshot of(List<Passenger> passengers, List<Pool> pools) {
+        requireAllNonNull(passengers, pools);
+        return new AddressBookSnapshot(
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(passengers)),
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(pools)));
+    }
+
+    @Override
+    public ObservableList<Passenger> getPassengerList() {
+        return passengers;
+    }
+
+    @Override
+    public ObservableList<Pool> getPoolList() {
+        return pools;
+    }
+}
@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes out anything the storage has held back from the data file, so that the data file alone holds the
+     * given {@link ReadOnlyAddressBook}. Called before the application exits.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
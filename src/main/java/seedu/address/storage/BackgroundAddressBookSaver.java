@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves AddressBook data to an {@code AddressBookStorage} on a background thread.
+ * Every save request takes a snapshot of the address book on the calling thread and returns at once. The write
+ * is delayed by a short debounce period, and requests made in the meantime replace the pending snapshot, so a burst
+ * of commands results in a single write of the latest data.
+ *
+ * All writes are made on the same thread, in the order they were requested. Failures are logged and reported to the
+ * failure handler on that thread. {@link #flush(ReadOnlyAddressBook)} waits until the given data has been written
+ * and flushed, and should be called before the application exits.
+ */
+public class BackgroundAddressBookSaver {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor;
+    private Consumer<IOException> failureHandler = exception -> { };
+    private AddressBookSnapshot pendingSnapshot;
+    private boolean isWriteScheduled;
+    private int coalescedCount;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage} after {@code debounceMillis}.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage, long debounceMillis) {
+        requireNonNull(storage);
+        checkArgument(debounceMillis >= 0, "The debounce period should not be negative.");
+        this.storage = storage;
+        this.debounceMillis = debounceMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the saving thread, with the exception of every save that fails.
+     */
+    public synchronized void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be saved.
+     * If a save is already pending, the snapshot replaces the data it would have saved.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        synchronized (this) {
+            if (isWriteScheduled) {
+                coalescedCount++;
+            }
+            pendingSnapshot = snapshot;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                executor.schedule(this::writePendingSnapshot, debounceMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} and flushes the storage, replacing any pending save, and waits until both are done.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void flush(ReadOnlyAddressBook addressBook) throws IOException {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        Future<?> flush = executor.submit(() -> {
+            takePendingSnapshot();
+            storage.saveAddressBook(snapshot);
+            storage.flushAddressBook(snapshot);
+            return null;
+        });
+
+        try {
+            flush.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to flush the address book", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing the address book", e);
+        }
+    }
+
+    /**
+     * Stops the saving thread. Pending saves are discarded, so {@link #flush(ReadOnlyAddressBook)} should be
+     * called first.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the number of save requests that were merged into a pending save instead of being written.
+     */
+    public synchronized int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    private synchronized AddressBookSnapshot takePendingSnapshot() {
+        AddressBookSnapshot snapshot = pendingSnapshot;
+        pendingSnapshot = null;
+        isWriteScheduled = false;
+        return snapshot;
+    }
+
+    private void writePendingSnapshot() {
+        AddressBookSnapshot snapshot = takePendingSnapshot();
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            Consumer<IOException> handler;
+            synchronized (this) {
+                handler = failureHandler;
+            }
+            handler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * A json data file found where the binary file is expected is read as json, along with its journal, and replaced by
+ * the binary file on the next save. If the binary file is missing, the json data file it replaces, if any, is
+ * imported and then moved aside (see {@link DataFileConversions}). Either way, switching an existing address book to
+ * this storage keeps its data.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_SUFFIX = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final Optional<Path> jsonFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.jsonFilePath = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the binary file at {@code filePath}, which is imported from the
+     * json data file at {@code jsonFilePath} if the binary file does not exist. The json data file is then moved
+     * aside.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        this.filePath = filePath;
+        this.jsonFilePath = Optional.of(jsonFilePath);
+    }
+
+    /**
+     * Returns the path of the binary file that replaces the data file at {@code dataFilePath}, which has the name of
+     * the data file with its extension replaced by {@value #BINARY_FILE_SUFFIX}. A path that already has that
+     * extension is returned as it is.
+     */
+    public static Path getBinaryFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        String fileName = dataFilePath.getFileName().toString();
+        if (fileName.endsWith(BINARY_FILE_SUFFIX)) {
+            return dataFilePath;
+        }
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + BINARY_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            if (!FileUtil.isFileExists(filePath)) {
+                if (!isImportNeeded(filePath)) {
+                    logger.info("Binary file " + filePath + " not found");
+                    return Optional.empty();
+                }
+                logger.info("Binary file " + filePath + " not found, importing json file " + jsonFilePath.get());
+                importJson(jsonFilePath.get(), filePath);
+                DataFileConversions.moveConvertedAside(jsonFilePath.get());
+            }
+
+            if (!BinaryAddressBookStream.isBinaryFile(filePath)) {
+                logger.info("Importing json file " + filePath + ", it will be saved in the binary format");
+                return new JournaledAddressBookStorage(filePath).readAddressBook();
+            }
+            return Optional.of(BinaryAddressBookStream.readFile(filePath).toModelType(ForkJoinPool.commonPool()));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns true if {@code filePath}, which does not exist, is this storage's binary file and the json data file it
+     * replaces exists.
+     */
+    private boolean isImportNeeded(Path filePath) {
+        return filePath.equals(this.filePath) && jsonFilePath.isPresent() && !jsonFilePath.get().equals(filePath)
+                && FileUtil.isFileExists(jsonFilePath.get());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        DataFileBackups.rotate(filePath);
+        BinaryAddressBookStream.writeFile(addressBook, filePath);
+    }
+
+    /**
+     * Does nothing, as every save writes the whole address book to the data file.
+     */
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Converts the json data file at {@code jsonFilePath}, along with its journal, into a binary data file at
+     * {@code binaryFilePath}.
+     *
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if the json file does not exist or the binary file could not be written.
+     */
+    public static void importJson(Path jsonFilePath, Path binaryFilePath) throws DataConversionException, IOException {
+        requireNonNull(binaryFilePath);
+        ReadOnlyAddressBook addressBook = new JournaledAddressBookStorage(jsonFilePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(jsonFilePath.toString()));
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the binary data file at {@code binaryFilePath} into a json data file at {@code jsonFilePath}.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     * @throws IOException if the binary file does not exist or the json file could not be written.
+     */
+    public static void exportJson(Path binaryFilePath, Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(binaryFilePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(binaryFilePath.toString()));
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+
+}
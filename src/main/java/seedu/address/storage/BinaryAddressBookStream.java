@@ -0,0 +1,293 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.person.passenger.Price;
+import seedu.address.model.pool.Pool;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes AddressBook data files in a compact binary format.
+ * <p>
+ * A file holds, in order: a magic number and the format version, a dictionary of the strings that repeat across
+ * records (addresses, trip days, trip times and tags), the passenger records, the pool records and a CRC32 checksum
+ * of everything before it. Every record is prefixed with its length, so that fields added to the end of a record in
+ * later versions are skipped by older readers. Records refer to dictionary strings, and pools refer to their
+ * passengers, by their position.
+ * <p>
+ * Reading results in the same {@code JsonSerializableAddressBook} as reading the equivalent json file, so both
+ * formats are checked against the data constraints in the same way.
+ */
+class BinaryAddressBookStream {
+
+    /** The first four bytes of every file, "GMEB". */
+    static final int MAGIC = 0x474D4542;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RECORD_LENGTH = 1024 * 1024;
+
+    private BinaryAddressBookStream() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of the binary format.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads a {@code JsonSerializableAddressBook} from the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read, is not in the expected format or fails its checksum.
+     */
+    static JsonSerializableAddressBook readFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the binary file at {@code filePath}, creating it if it does not exist.
+     * The file is replaced atomically, so a failed write leaves the old file as it was.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    static void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Reads a {@code JsonSerializableAddressBook} from {@code in}, one record at a time. {@code in} is left open.
+     *
+     * @throws IOException if {@code in} could not be read, is not in the expected format or fails its checksum.
+     */
+    static JsonSerializableAddressBook read(InputStream in) throws IOException {
+        requireNonNull(in);
+        CRC32 checksum = new CRC32();
+        DataInputStream data = new DataInputStream(new CheckedInputStream(in, checksum));
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an address book binary file");
+        }
+        int version = data.readInt();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Unsupported binary format version " + version);
+        }
+
+        List<String> dictionary = new ArrayList<>();
+        int dictionarySize = readCount(data);
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary.add(data.readUTF());
+        }
+
+        List<JsonAdaptedPassengerReference> passengerRefs = new ArrayList<>();
+        List<JsonAdaptedPassenger> passengers = new ArrayList<>();
+        int passengerCount = readCount(data);
+        for (int i = 0; i < passengerCount; i++) {
+            DataInputStream record = readRecord(data);
+            String name = record.readUTF();
+            String phone = record.readUTF();
+            String address = lookUp(dictionary, record.readInt());
+            String tripDay = lookUp(dictionary, record.readInt());
+            String tripTime = lookUp(dictionary, record.readInt());
+            String price = record.readUTF();
+            List<JsonAdaptedTag> tags = readTags(record, dictionary);
+            passengers.add(new JsonAdaptedPassenger(name, phone, address, tripDay, tripTime, price, tags));
+            passengerRefs.add(new JsonAdaptedPassengerReference(name, phone));
+        }
+
+        List<JsonAdaptedPool> pools = new ArrayList<>();
+        int poolCount = readCount(data);
+        for (int i = 0; i < poolCount; i++) {
+            DataInputStream record = readRecord(data);
+            String tripDay = lookUp(dictionary, record.readInt());
+            String tripTime = lookUp(dictionary, record.readInt());
+            JsonAdaptedDriver driver = new JsonAdaptedDriver(record.readUTF(), record.readUTF());
+            List<JsonAdaptedPassengerReference> poolPassengerRefs = new ArrayList<>();
+            int poolPassengerCount = readCount(record);
+            for (int j = 0; j < poolPassengerCount; j++) {
+                poolPassengerRefs.add(lookUp(passengerRefs, record.readInt()));
+            }
+            List<JsonAdaptedTag> tags = readTags(record, dictionary);
+            pools.add(new JsonAdaptedPool(tripDay, tripTime, null, poolPassengerRefs, tags, driver));
+        }
+
+        long expectedChecksum = checksum.getValue();
+        if (data.readLong() != expectedChecksum) {
+            throw new IOException("Address book binary file failed its checksum");
+        }
+        return new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION, passengers, pools);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, one record at a time. {@code out} is flushed but left open.
+     *
+     * @throws IOException if {@code out} could not be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireAllNonNull(addressBook, out);
+        List<Passenger> passengers = addressBook.getPassengerList();
+        List<Pool> pools = addressBook.getPoolList();
+
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> dictionaryStrings = new ArrayList<>();
+        for (Passenger passenger : passengers) {
+            addToDictionary(dictionary, dictionaryStrings, passenger.getAddress().value);
+            addToDictionary(dictionary, dictionaryStrings, passenger.getTripDayAsStr());
+            addToDictionary(dictionary, dictionaryStrings, passenger.getTripTimeAsStr());
+            passenger.getTags().forEach(tag -> addToDictionary(dictionary, dictionaryStrings, tag.tagName));
+        }
+        for (Pool pool : pools) {
+            addToDictionary(dictionary, dictionaryStrings, pool.getTripDayAsStr());
+            addToDictionary(dictionary, dictionaryStrings, pool.getTripTimeAsStr());
+            pool.getTags().forEach(tag -> addToDictionary(dictionary, dictionaryStrings, tag.tagName));
+        }
+        Map<PersonIdentity, Integer> passengerPositions = new HashMap<>();
+        for (int i = 0; i < passengers.size(); i++) {
+            passengerPositions.putIfAbsent(passengers.get(i).getIdentity(), i);
+        }
+
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(dictionaryStrings.size());
+        for (String string : dictionaryStrings) {
+            data.writeUTF(string);
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        data.writeInt(passengers.size());
+        for (Passenger passenger : passengers) {
+            record.writeUTF(passenger.getName().fullName);
+            record.writeUTF(passenger.getPhone().value);
+            record.writeInt(dictionary.get(passenger.getAddress().value));
+            record.writeInt(dictionary.get(passenger.getTripDayAsStr()));
+            record.writeInt(dictionary.get(passenger.getTripTimeAsStr()));
+            record.writeUTF(passenger.getPrice().map(Price::toString).orElse(""));
+            writeTags(record, passenger.getTags(), dictionary);
+            writeRecord(data, recordBytes);
+        }
+
+        data.writeInt(pools.size());
+        for (Pool pool : pools) {
+            record.writeInt(dictionary.get(pool.getTripDayAsStr()));
+            record.writeInt(dictionary.get(pool.getTripTimeAsStr()));
+            record.writeUTF(pool.getDriver().getName().fullName);
+            record.writeUTF(pool.getDriver().getPhone().value);
+            record.writeInt(pool.getPassengers().size());
+            for (Passenger passenger : pool.getPassengers()) {
+                Integer position = passengerPositions.get(passenger.getIdentity());
+                if (position == null) {
+                    throw new IOException("Pool passenger " + passenger.getName() + " is not in the passenger list");
+                }
+                record.writeInt(position);
+            }
+            writeTags(record, pool.getTags(), dictionary);
+            writeRecord(data, recordBytes);
+        }
+
+        data.writeLong(checksum.getValue());
+        data.flush();
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, List<String> dictionaryStrings,
+                                        String string) {
+        if (dictionary.putIfAbsent(string, dictionaryStrings.size()) == null) {
+            dictionaryStrings.add(string);
+        }
+    }
+
+    private static void writeTags(DataOutputStream record, Iterable<Tag> tags, Map<String, Integer> dictionary)
+            throws IOException {
+        List<Integer> tagPositions = new ArrayList<>();
+        tags.forEach(tag -> tagPositions.add(dictionary.get(tag.tagName)));
+        record.writeInt(tagPositions.size());
+        for (int tagPosition : tagPositions) {
+            record.writeInt(tagPosition);
+        }
+    }
+
+    /**
+     * Writes the record in {@code recordBytes} to {@code data} after its length, and empties {@code recordBytes}.
+     */
+    private static void writeRecord(DataOutputStream data, ByteArrayOutputStream recordBytes) throws IOException {
+        data.writeInt(recordBytes.size());
+        recordBytes.writeTo(data);
+        recordBytes.reset();
+    }
+
+    /**
+     * Reads the next length-prefixed record from {@code data}. Fields at the end of the record that are not read are
+     * skipped.
+     */
+    private static DataInputStream readRecord(DataInputStream data) throws IOException {
+        int length = readCount(data);
+        if (length > MAX_RECORD_LENGTH) {
+            throw new IOException("Record of " + length + " bytes in address book binary file is too long");
+        }
+        byte[] recordBytes = new byte[length];
+        data.readFully(recordBytes);
+        return new DataInputStream(new ByteArrayInputStream(recordBytes));
+    }
+
+    private static List<JsonAdaptedTag> readTags(DataInputStream record, List<String> dictionary)
+            throws IOException {
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        int tagCount = readCount(record);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(lookUp(dictionary, record.readInt())));
+        }
+        return tags;
+    }
+
+    private static int readCount(DataInputStream data) throws IOException {
+        int count = data.readInt();
+        if (count < 0) {
+            throw new IOException("Negative count " + count + " in address book binary file");
+        }
+        return count;
+    }
+
+    private static <T> T lookUp(List<T> values, int position) throws IOException {
+        if (position < 0 || position >= values.size()) {
+            throw new IOException("Reference " + position + " out of range in address book binary file");
+        }
+        return values.get(position);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the last few versions of a data file next to it, as {@code <file>.bak1} (the newest) to
+ * {@code <file>.bak<BACKUP_COUNT>} (the oldest), so that a damaged data file can be recovered from the newest good one.
+ */
+class DataFileBackups {
+
+    /** Number of versions of a data file that are kept. */
+    static final int BACKUP_COUNT = 3;
+
+    private static final String BACKUP_SUFFIX = ".bak";
+    private static final String DAMAGED_SUFFIX = ".damaged";
+
+    private DataFileBackups() {}
+
+    /**
+     * Returns the path of the backup of {@code filePath} of the given {@code generation}, where 1 is the newest.
+     */
+    static Path getBackupPath(Path filePath, int generation) {
+        requireNonNull(filePath);
+        assert generation >= 1 && generation <= BACKUP_COUNT;
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_SUFFIX + generation);
+    }
+
+    /**
+     * Returns the paths of the existing backups of {@code filePath}, newest first.
+     */
+    static List<Path> getBackupPaths(Path filePath) {
+        requireNonNull(filePath);
+        List<Path> backupPaths = new ArrayList<>();
+        for (int generation = 1; generation <= BACKUP_COUNT; generation++) {
+            Path backupPath = getBackupPath(filePath, generation);
+            if (Files.isRegularFile(backupPath)) {
+                backupPaths.add(backupPath);
+            }
+        }
+        return backupPaths;
+    }
+
+    /**
+     * Keeps the current version of {@code filePath} as its newest backup, dropping the oldest backup.
+     * Must be called before {@code filePath} is replaced. Does nothing if {@code filePath} does not exist.
+     * The file is linked rather than copied where the file system allows it, which works because data files are
+     * always replaced by a new file rather than overwritten.
+     *
+     * @throws IOException if the backups could not be rotated.
+     */
+    static void rotate(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(filePath, BACKUP_COUNT));
+        for (int generation = BACKUP_COUNT - 1; generation >= 1; generation--) {
+            Path backupPath = getBackupPath(filePath, generation);
+            if (Files.exists(backupPath)) {
+                Files.move(backupPath, getBackupPath(filePath, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path newestBackupPath = getBackupPath(filePath, 1);
+        try {
+            Files.createLink(newestBackupPath, filePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(filePath, newestBackupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves the damaged data file at {@code filePath} to {@code <file>.damaged}, replacing any earlier damaged file,
+     * so that it is kept for inspection but not backed up or read again.
+     *
+     * @return the path the file was moved to.
+     * @throws IOException if the file could not be moved.
+     */
+    static Path moveAside(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Path damagedPath = filePath.resolveSibling(filePath.getFileName() + DAMAGED_SUFFIX);
+        Files.move(filePath, damagedPath, StandardCopyOption.REPLACE_EXISTING);
+        return damagedPath;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Converts the data file of an address book when the data file format is switched, so that the address book is kept.
+ * The binary, database and segmented storages convert the json data file they replace; the other way round, their
+ * data files are exported back to json by {@link #exportToJson(Path, Path)}.
+ * A data file that has been converted is moved aside to {@code <file>.converted}, so that only the data file of one
+ * format holds the address book, and a stale data file is never converted again over a newer one.
+ */
+public class DataFileConversions {
+
+    public static final String CONVERTED_SUFFIX = ".converted";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileConversions.class);
+
+    private DataFileConversions() {}
+
+    /**
+     * Returns the path that the converted data file at {@code filePath} is moved to.
+     */
+    public static Path getConvertedFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + CONVERTED_SUFFIX);
+    }
+
+    /**
+     * Exports the data file of another format that replaced the json data file at {@code jsonFilePath} back to it,
+     * and moves the exported data file aside. Does nothing if the json data file or the data file at
+     * {@code dataFilePath}, which is the one about to be used, exists.
+     *
+     * @return the path of the data file that was exported, if any.
+     * @throws DataConversionException if the data file to export is not in the correct format.
+     * @throws IOException if the data file to export could not be read, or the json data file could not be written.
+     */
+    public static Optional<Path> exportToJson(Path jsonFilePath, Path dataFilePath)
+            throws DataConversionException, IOException {
+        requireAllNonNull(jsonFilePath, dataFilePath);
+        if (FileUtil.isFileExists(jsonFilePath) || FileUtil.isFileExists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        for (Path filePath : getReplacingFilePaths(jsonFilePath)) {
+            if (filePath.equals(jsonFilePath) || filePath.equals(dataFilePath) || !FileUtil.isFileExists(filePath)) {
+                continue;
+            }
+            logger.info("Data file " + jsonFilePath + " not found, exporting " + filePath);
+            if (filePath.equals(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath))) {
+                BinaryAddressBookStorage.exportJson(filePath, jsonFilePath);
+            } else if (filePath.equals(DatabaseAddressBookStorage.getDatabaseFilePath(jsonFilePath))) {
+                DatabaseAddressBookStorage.exportJson(filePath, jsonFilePath);
+            } else {
+                SegmentedAddressBookStorage.exportJson(filePath, jsonFilePath);
+            }
+            moveConvertedAside(filePath);
+            return Optional.of(filePath);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the paths of the data files of the other formats that replace the json data file at
+     * {@code jsonFilePath}.
+     */
+    private static List<Path> getReplacingFilePaths(Path jsonFilePath) {
+        List<Path> filePaths = new ArrayList<>();
+        filePaths.add(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        Path databaseFilePath = DatabaseAddressBookStorage.getDatabaseFilePath(jsonFilePath);
+        if (DatabaseAddressBookStorage.isValidDatabaseFilePath(databaseFilePath)) {
+            filePaths.add(databaseFilePath);
+        }
+        filePaths.add(SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath));
+        return filePaths;
+    }
+
+    /**
+     * Moves the data file at {@code filePath}, whose address book has been converted into another format, aside to
+     * {@code <file>.converted}, along with its journal if it has one. Any earlier converted file is replaced.
+     *
+     * @throws IOException if the file could not be moved.
+     */
+    static void moveConvertedAside(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Files.move(filePath, getConvertedFilePath(filePath), StandardCopyOption.REPLACE_EXISTING);
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        if (Files.exists(journalFilePath)) {
+            Files.move(journalFilePath, getConvertedFilePath(journalFilePath), StandardCopyOption.REPLACE_EXISTING);
+        }
+        logger.info("Converted data file " + filePath + " has been moved to " + getConvertedFilePath(filePath));
+    }
+}
@@ -0,0 +1,567 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.person.passenger.Price;
+import seedu.address.model.pool.Pool;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.RowChanges.SavedRows;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file on the hard disk.
+ * Passengers, pools, the passengers of each pool and the tags of both are kept in tables of their own.
+ * <p>
+ * Saving only writes the rows of the passengers and pools that were added, edited or removed since the last save or
+ * read, in a single transaction, so its cost depends on the size of the change instead of the size of the address
+ * book. Passengers and pools are matched to their rows by reference, as in {@link JournaledAddressBookStorage}, and an
+ * edited passenger or pool is upserted into the row of the one it was edited from. The order of the passengers and
+ * pools is kept as sparse sort keys, so removing one does not rewrite the rows after it.
+ * <p>
+ * The database is opened, and its tables created, on first use, and stays open for the lifetime of the storage; H2
+ * closes it when the application exits. Each commit is written to the file straight away.
+ * <p>
+ * If the database file does not exist, the json data file it replaces, if any, is read instead, and copied into a new
+ * database on the next save, after which it is moved aside (see {@link DataFileConversions}).
+ */
+public class DatabaseAddressBookStorage implements AddressBookStorage {
+
+    /** The extension H2 adds to the name of a database to get the name of its file. */
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+    public static final String MESSAGE_CONSTRAINTS = "Database file names must end with " + DATABASE_FILE_SUFFIX
+            + ", and their paths cannot contain ;";
+
+    /** Separates the database name from the settings in an H2 database URL. */
+    private static final String URL_SETTINGS_SEPARATOR = ";";
+    private static final String URL_SETTINGS = URL_SETTINGS_SEPARATOR + "WRITE_DELAY=0";
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseAddressBookStorage.class);
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS passenger (id BIGINT PRIMARY KEY, sort_key BIGINT NOT NULL, "
+                + "name VARCHAR NOT NULL, phone VARCHAR NOT NULL, address VARCHAR NOT NULL, "
+                + "trip_day VARCHAR NOT NULL, trip_time VARCHAR NOT NULL, price VARCHAR)",
+        "CREATE TABLE IF NOT EXISTS passenger_tag ("
+                + "passenger_id BIGINT NOT NULL REFERENCES passenger (id) ON DELETE CASCADE, tag VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS pool (id BIGINT PRIMARY KEY, sort_key BIGINT NOT NULL, "
+                + "driver_name VARCHAR NOT NULL, driver_phone VARCHAR NOT NULL, "
+                + "trip_day VARCHAR NOT NULL, trip_time VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS pool_tag ("
+                + "pool_id BIGINT NOT NULL REFERENCES pool (id) ON DELETE CASCADE, tag VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS pool_passenger ("
+                + "pool_id BIGINT NOT NULL REFERENCES pool (id) ON DELETE CASCADE, list_position INT NOT NULL, "
+                + "passenger_id BIGINT NOT NULL REFERENCES passenger (id))"
+    };
+
+    private static final String MERGE_PASSENGER = "MERGE INTO passenger "
+            + "(id, sort_key, name, phone, address, trip_day, trip_time, price) KEY (id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String MERGE_POOL = "MERGE INTO pool "
+            + "(id, sort_key, driver_name, driver_phone, trip_day, trip_time) KEY (id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final Path filePath;
+    private final Optional<Path> jsonFilePath;
+    private SavedRows<Passenger> savedPassengers;
+    private SavedRows<Pool> savedPools;
+    private boolean isMigratingJsonFile;
+    private Connection connection;
+
+    /**
+     * Creates a {@code DatabaseAddressBookStorage} for the database file at {@code filePath}.
+     */
+    public DatabaseAddressBookStorage(Path filePath) {
+        this(filePath, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code DatabaseAddressBookStorage} for the database file at {@code filePath}, which is created from
+     * the json data file at {@code jsonFilePath} if it does not exist. The json data file is then moved aside.
+     */
+    public DatabaseAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this(filePath, Optional.of(jsonFilePath));
+    }
+
+    private DatabaseAddressBookStorage(Path filePath, Optional<Path> jsonFilePath) {
+        requireNonNull(filePath);
+        checkArgument(isValidDatabaseFilePath(filePath), MESSAGE_CONSTRAINTS);
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names an H2 database file whose path can be put in a database URL without
+     * being read as settings.
+     */
+    public static boolean isValidDatabaseFilePath(Path filePath) {
+        return hasDatabaseFileSuffix(filePath)
+                && !filePath.toAbsolutePath().toString().contains(URL_SETTINGS_SEPARATOR);
+    }
+
+    private static boolean hasDatabaseFileSuffix(Path filePath) {
+        return filePath.getFileName().toString().endsWith(DATABASE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the database file that replaces the data file at {@code dataFilePath}, which has the name
+     * of the data file without its extension. A path that already names a database file is returned as it is.
+     */
+    public static Path getDatabaseFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        if (hasDatabaseFileSuffix(dataFilePath)) {
+            return dataFilePath;
+        }
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + DATABASE_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the database is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            forgetSavedState();
+            isMigratingJsonFile = false;
+        }
+
+        if (!FileUtil.isFileExists(filePath)) {
+            if (isOwnFile && jsonFilePath.isPresent() && FileUtil.isFileExists(jsonFilePath.get())) {
+                logger.info("Database file " + filePath + " not found, migrating json file " + jsonFilePath.get());
+                isMigratingJsonFile = true;
+                return new JournaledAddressBookStorage(jsonFilePath.get()).readAddressBook();
+            }
+            logger.info("Database file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            TableContents contents = useDatabase(filePath, DatabaseAddressBookStorage::readTables);
+            AddressBook addressBook = contents.addressBook.toModelType(ForkJoinPool.commonPool());
+            if (isOwnFile) {
+                savedPassengers = toSavedRows(addressBook.getPassengerList(), contents.passengerIds,
+                        contents.passengerKeys);
+                savedPools = toSavedRows(addressBook.getPoolList(), contents.poolIds, contents.poolKeys);
+            }
+            return Optional.of(addressBook);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Saving to a database other than this storage's
+     * replaces all of its rows.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        checkArgument(isValidDatabaseFilePath(filePath), MESSAGE_CONSTRAINTS);
+        boolean isIncremental = filePath.equals(this.filePath) && savedPassengers != null;
+
+        List<Passenger> passengers = new ArrayList<>(addressBook.getPassengerList());
+        List<Pool> pools = new ArrayList<>(addressBook.getPoolList());
+        RowChanges<Passenger> passengerChanges = RowChanges.between(
+                isIncremental ? savedPassengers : new SavedRows<>(1), passengers, Passenger::getIdentity);
+        RowChanges<Pool> poolChanges = RowChanges.between(
+                isIncremental ? savedPools : new SavedRows<>(1), pools, Pool::getIdentity);
+        if (isIncremental && passengerChanges.isEmpty() && poolChanges.isEmpty()) {
+            return;
+        }
+
+        if (filePath.equals(this.filePath)) {
+            forgetSavedState();
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            useDatabase(filePath, connection -> {
+                if (!isIncremental) {
+                    deleteAllRows(connection);
+                }
+                writeChanges(connection, passengers, passengerChanges, pools, poolChanges);
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new IOException("Error writing to database file " + filePath, e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedPassengers = passengerChanges.toSavedRows(passengers);
+            savedPools = poolChanges.toSavedRows(pools);
+            if (isMigratingJsonFile) {
+                DataFileConversions.moveConvertedAside(jsonFilePath.get());
+                isMigratingJsonFile = false;
+            }
+        }
+        logger.fine("Wrote " + passengerChanges.getWrittenPositions().size() + " passengers and "
+                + poolChanges.getWrittenPositions().size() + " pools to " + filePath);
+    }
+
+    /**
+     * Saves {@code addressBook} as {@link #saveAddressBook(ReadOnlyAddressBook)} does, which only writes the rows that
+     * changed since the last save or read. Every save is written to the database straight away, so there is nothing
+     * else to flush.
+     */
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the database file at {@code filePath} into a json data file at {@code jsonFilePath}. The database is
+     * closed before this returns.
+     *
+     * @throws DataConversionException if the database is not in the correct format.
+     * @throws IOException if the database file does not exist or the json file could not be written.
+     */
+    public static void exportJson(Path filePath, Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = storage.readAddressBook()
+                    .orElseThrow(() -> new NoSuchFileException(filePath.toString()));
+        } finally {
+            if (storage.connection != null) {
+                storage.closeConnection();
+            }
+        }
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Runs {@code action} in a transaction on the database at {@code filePath}, and returns its result.
+     * This storage's own database is opened on first use and kept open; the connection is closed if the action fails,
+     * so that the next use opens it again. Any other database is only opened for the action.
+     */
+    private <T> T useDatabase(Path filePath, DatabaseAction<T> action) throws SQLException {
+        if (!filePath.equals(this.filePath)) {
+            try (Connection otherConnection = openDatabase(filePath)) {
+                return runInTransaction(otherConnection, action);
+            }
+        }
+
+        if (connection == null) {
+            connection = openDatabase(filePath);
+        }
+        try {
+            return runInTransaction(connection, action);
+        } catch (SQLException e) {
+            closeConnection();
+            throw e;
+        }
+    }
+
+    private static <T> T runInTransaction(Connection connection, DatabaseAction<T> action) throws SQLException {
+        try {
+            T result = action.apply(connection);
+            connection.commit();
+            return result;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    private void closeConnection() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database file " + filePath + ": " + e);
+        }
+        connection = null;
+    }
+
+    /**
+     * Opens the database at {@code filePath}, which must be a valid database file path, and creates its tables if
+     * they do not exist.
+     */
+    private static Connection openDatabase(Path filePath) throws SQLException {
+        assert isValidDatabaseFilePath(filePath);
+        String fileName = filePath.toAbsolutePath().toString();
+        String databaseName = fileName.substring(0, fileName.length() - DATABASE_FILE_SUFFIX.length());
+        Connection connection = DriverManager.getConnection("jdbc:h2:file:" + databaseName + URL_SETTINGS);
+        try (Statement statement = connection.createStatement()) {
+            for (String table : SCHEMA) {
+                statement.execute(table);
+            }
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private static void deleteAllRows(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM pool");
+            statement.execute("DELETE FROM passenger");
+        }
+    }
+
+    /**
+     * Writes the changed rows. Passengers are written before the pools that refer to them, and deleted after the
+     * pools that referred to them are rewritten.
+     */
+    private static void writeChanges(Connection connection, List<Passenger> passengers,
+                                     RowChanges<Passenger> passengerChanges, List<Pool> pools,
+                                     RowChanges<Pool> poolChanges) throws SQLException {
+        try (PreparedStatement mergePassenger = connection.prepareStatement(MERGE_PASSENGER);
+             PreparedStatement deletePassengerTags = connection.prepareStatement(
+                     "DELETE FROM passenger_tag WHERE passenger_id = ?");
+             PreparedStatement insertPassengerTag = connection.prepareStatement(
+                     "INSERT INTO passenger_tag (passenger_id, tag) VALUES (?, ?)")) {
+            for (int position : passengerChanges.getWrittenPositions()) {
+                Passenger passenger = passengers.get(position);
+                long id = passengerChanges.getId(passenger);
+                setValues(mergePassenger, id, passengerChanges.getKey(passenger), passenger.getName().fullName,
+                        passenger.getPhone().value, passenger.getAddress().value, passenger.getTripDayAsStr(),
+                        passenger.getTripTimeAsStr(), passenger.getPrice().map(Price::toString).orElse(null));
+                mergePassenger.addBatch();
+                addTags(deletePassengerTags, insertPassengerTag, id, passenger.getTags());
+            }
+            mergePassenger.executeBatch();
+            deletePassengerTags.executeBatch();
+            insertPassengerTag.executeBatch();
+        }
+        updateKeys(connection, "passenger", passengers, passengerChanges);
+
+        deleteRows(connection, "pool", poolChanges.getDeletedIds());
+        try (PreparedStatement mergePool = connection.prepareStatement(MERGE_POOL);
+             PreparedStatement deletePoolTags = connection.prepareStatement("DELETE FROM pool_tag WHERE pool_id = ?");
+             PreparedStatement insertPoolTag = connection.prepareStatement(
+                     "INSERT INTO pool_tag (pool_id, tag) VALUES (?, ?)");
+             PreparedStatement deletePoolPassengers = connection.prepareStatement(
+                     "DELETE FROM pool_passenger WHERE pool_id = ?");
+             PreparedStatement insertPoolPassenger = connection.prepareStatement(
+                     "INSERT INTO pool_passenger (pool_id, list_position, passenger_id) VALUES (?, ?, ?)")) {
+            for (int position : poolChanges.getWrittenPositions()) {
+                Pool pool = pools.get(position);
+                long id = poolChanges.getId(pool);
+                setValues(mergePool, id, poolChanges.getKey(pool), pool.getDriver().getName().fullName,
+                        pool.getDriver().getPhone().value, pool.getTripDayAsStr(), pool.getTripTimeAsStr());
+                mergePool.addBatch();
+                addTags(deletePoolTags, insertPoolTag, id, pool.getTags());
+
+                setValues(deletePoolPassengers, id);
+                deletePoolPassengers.addBatch();
+                List<Passenger> poolPassengers = pool.getPassengers();
+                for (int i = 0; i < poolPassengers.size(); i++) {
+                    setValues(insertPoolPassenger, id, i, passengerChanges.getId(poolPassengers.get(i)));
+                    insertPoolPassenger.addBatch();
+                }
+            }
+            mergePool.executeBatch();
+            deletePoolTags.executeBatch();
+            insertPoolTag.executeBatch();
+            deletePoolPassengers.executeBatch();
+            insertPoolPassenger.executeBatch();
+        }
+        updateKeys(connection, "pool", pools, poolChanges);
+
+        deleteRows(connection, "passenger", passengerChanges.getDeletedIds());
+    }
+
+    private static void addTags(PreparedStatement deleteTags, PreparedStatement insertTag, long id, Iterable<Tag> tags)
+            throws SQLException {
+        setValues(deleteTags, id);
+        deleteTags.addBatch();
+        for (Tag tag : tags) {
+            setValues(insertTag, id, tag.tagName);
+            insertTag.addBatch();
+        }
+    }
+
+    private static <E> void updateKeys(Connection connection, String table, List<E> elements, RowChanges<E> changes)
+            throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + table + " SET sort_key = ? WHERE id = ?")) {
+            for (int position : changes.getMovedPositions()) {
+                E element = elements.get(position);
+                setValues(update, changes.getKey(element), changes.getId(element));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    private static void deleteRows(Connection connection, String table, List<Long> ids) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+            for (long id : ids) {
+                setValues(delete, id);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        }
+    }
+
+    private static void setValues(PreparedStatement statement, Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+    }
+
+    /**
+     * Reads every table into Jackson-friendly records, which are checked against the data constraints in the same
+     * way as those read from a json file.
+     */
+    private static TableContents readTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            Map<Long, List<JsonAdaptedTag>> passengerTags = readTags(statement,
+                    "SELECT passenger_id, tag FROM passenger_tag");
+            List<Long> passengerIds = new ArrayList<>();
+            List<Long> passengerKeys = new ArrayList<>();
+            List<JsonAdaptedPassenger> passengers = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery("SELECT id, name, phone, address, trip_day, trip_time, "
+                    + "price, sort_key FROM passenger ORDER BY sort_key")) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    String price = rows.getString(7);
+                    passengerIds.add(id);
+                    passengerKeys.add(rows.getLong(8));
+                    passengers.add(new JsonAdaptedPassenger(rows.getString(2), rows.getString(3),
+                            rows.getString(4), rows.getString(5), rows.getString(6), price == null ? "" : price,
+                            passengerTags.getOrDefault(id, new ArrayList<>())));
+                }
+            }
+
+            Map<Long, List<JsonAdaptedTag>> poolTags = readTags(statement, "SELECT pool_id, tag FROM pool_tag");
+            Map<Long, List<JsonAdaptedPassengerReference>> poolPassengers = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery("SELECT m.pool_id, p.name, p.phone FROM pool_passenger m "
+                    + "JOIN passenger p ON p.id = m.passenger_id ORDER BY m.pool_id, m.list_position")) {
+                while (rows.next()) {
+                    poolPassengers.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>())
+                            .add(new JsonAdaptedPassengerReference(rows.getString(2), rows.getString(3)));
+                }
+            }
+            List<Long> poolIds = new ArrayList<>();
+            List<Long> poolKeys = new ArrayList<>();
+            List<JsonAdaptedPool> pools = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery("SELECT id, driver_name, driver_phone, trip_day, trip_time, "
+                    + "sort_key FROM pool ORDER BY sort_key")) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    poolIds.add(id);
+                    poolKeys.add(rows.getLong(6));
+                    pools.add(new JsonAdaptedPool(rows.getString(4), rows.getString(5), null,
+                            poolPassengers.getOrDefault(id, new ArrayList<>()),
+                            poolTags.getOrDefault(id, new ArrayList<>()),
+                            new JsonAdaptedDriver(rows.getString(2), rows.getString(3))));
+                }
+            }
+
+            return new TableContents(new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION,
+                    passengers, pools), passengerIds, passengerKeys, poolIds, poolKeys);
+        }
+    }
+
+    private static Map<Long, List<JsonAdaptedTag>> readTags(Statement statement, String query) throws SQLException {
+        Map<Long, List<JsonAdaptedTag>> tags = new HashMap<>();
+        try (ResultSet rows = statement.executeQuery(query)) {
+            while (rows.next()) {
+                tags.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>())
+                        .add(new JsonAdaptedTag(rows.getString(2)));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the rows of {@code elements}, which were converted from the rows with the ids {@code ids} and the sort
+     * keys {@code keys}, in order.
+     */
+    private static <E> SavedRows<E> toSavedRows(List<E> elements, List<Long> ids, List<Long> keys) {
+        assert elements.size() == ids.size() && elements.size() == keys.size();
+        long nextId = ids.stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+        SavedRows<E> rows = new SavedRows<>(nextId);
+        for (int position = 0; position < elements.size(); position++) {
+            rows.put(elements.get(position), ids.get(position), keys.get(position));
+        }
+        return rows;
+    }
+
+    private void forgetSavedState() {
+        savedPassengers = null;
+        savedPools = null;
+    }
+
+    /**
+     * An action on an open database, which may throw an {@code SQLException}.
+     */
+    @FunctionalInterface
+    private interface DatabaseAction<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+
+    /**
+     * The Jackson-friendly records read from the tables, with the ids and sort keys of the passenger and pool rows
+     * in order.
+     */
+    private static class TableContents {
+        private final JsonSerializableAddressBook addressBook;
+        private final List<Long> passengerIds;
+        private final List<Long> passengerKeys;
+        private final List<Long> poolIds;
+        private final List<Long> poolKeys;
+
+        TableContents(JsonSerializableAddressBook addressBook, List<Long> passengerIds, List<Long> passengerKeys,
+                      List<Long> poolIds, List<Long> poolKeys) {
+            this.addressBook = addressBook;
+            this.passengerIds = passengerIds;
+            this.passengerKeys = passengerKeys;
+            this.poolIds = poolIds;
+            this.poolKeys = poolKeys;
+        }
+    }
+}
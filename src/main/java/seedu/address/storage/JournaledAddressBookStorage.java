@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file together with a journal of the changes made
+ * since the snapshot was saved.
+ * Saving appends the passengers and pools that were added, removed or replaced since the last save to the journal,
+ * so its cost depends on the size of the change instead of the size of the address book. A new snapshot is saved,
+ * and the journal emptied, every {@value #SNAPSHOT_INTERVAL} entries, when a change is too large to be worth
+ * journaling, and when the storage is flushed.
+ *
+ * Reading replays the journal on top of the snapshot. Other data files are read and saved as plain json files.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int SNAPSHOT_INTERVAL = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookJournal journal;
+    private List<Passenger> savedPassengers;
+    private List<Pool> savedPools;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with its snapshot at {@code filePath} and its journal next to it.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with its snapshot at {@code filePath} and its journal next to it.
+     *
+     * @param isCompact whether to write snapshots without indentation and line breaks.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact) {
+        super(filePath, isCompact);
+        journal = new AddressBookJournal(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        forgetSavedState();
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            CRC32 checksum = new CRC32();
+            JsonSerializableAddressBook jsonAddressBook = JsonAddressBookStream.readFile(filePath, checksum);
+            List<JsonJournalEntry> entries = journal.read(checksum.getValue());
+            for (JsonJournalEntry entry : entries) {
+                jsonAddressBook.applyJournalEntry(entry);
+            }
+            logger.fine("Replayed " + entries.size() + " journal entries on " + filePath);
+
+            AddressBook addressBook = jsonAddressBook.toModelType(ForkJoinPool.commonPool());
+            rememberSavedState(addressBook);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Optional<JsonJournalEntry> entry = getChangesSinceSave(addressBook);
+        if (entry.isPresent() && entry.get().size() == 0) {
+            return;
+        }
+        if (entry.isEmpty() || journal.isResetNeeded() || journal.getEntryCount() >= SNAPSHOT_INTERVAL) {
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        try {
+            journal.append(entry.get());
+        } catch (IOException e) {
+            // the entry may have been partly written, so the next save must start a new journal
+            forgetSavedState();
+            throw e;
+        }
+        rememberSavedState(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        Optional<JsonJournalEntry> entry = getChangesSinceSave(addressBook);
+        if (entry.isPresent() && entry.get().size() == 0 && journal.getEntryCount() == 0) {
+            return;
+        }
+        saveSnapshot(addressBook);
+    }
+
+    /**
+     * Saves {@code addressBook} as a new snapshot and starts an empty journal for it.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        CRC32 checksum = new CRC32();
+        forgetSavedState();
+        DataFileBackups.rotate(filePath);
+        JsonAddressBookStream.writeFile(addressBook, filePath, isCompact(), checksum);
+        journal.reset(checksum.getValue());
+        rememberSavedState(addressBook);
+        logger.fine("Saved a snapshot of the address book to " + filePath);
+    }
+
+    /**
+     * Returns the changes made to {@code addressBook} since it was last saved or read, or {@code Optional.empty()}
+     * if they are unknown or too large to be worth journaling.
+     */
+    private Optional<JsonJournalEntry> getChangesSinceSave(ReadOnlyAddressBook addressBook) {
+        if (savedPassengers == null) {
+            return Optional.empty();
+        }
+
+        List<Passenger> passengers = addressBook.getPassengerList();
+        List<Pool> pools = addressBook.getPoolList();
+        Optional<JsonJournalEntry> entry = JsonJournalEntry.between(savedPassengers, passengers, savedPools, pools);
+        if (entry.isPresent() && 2 * entry.get().size() > passengers.size() + pools.size()) {
+            return Optional.empty();
+        }
+        return entry;
+    }
+
+    private void rememberSavedState(ReadOnlyAddressBook addressBook) {
+        savedPassengers = new ArrayList<>(addressBook.getPassengerList());
+        savedPools = new ArrayList<>(addressBook.getPoolList());
+    }
+
+    private void forgetSavedState() {
+        savedPassengers = null;
+        savedPools = null;
+    }
+}
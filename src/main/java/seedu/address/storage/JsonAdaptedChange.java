@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a single change to a list of Jackson-friendly elements, as recorded in the journal.
+ *
+ * @param <T> the type of the Jackson-friendly elements of the list.
+ */
+class JsonAdaptedChange<T> {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal change's %s field is missing!";
+    public static final String MESSAGE_INDEX_OUT_OF_BOUNDS = "Journal change's index %d is out of bounds of the list.";
+
+    /**
+     * The kinds of change that can be made to a list.
+     */
+    enum Type {
+        /** Inserts the element at the index. */
+        ADD,
+        /** Removes the element at the index. */
+        REMOVE,
+        /** Replaces the element at the index. */
+        SET
+    }
+
+    private final Type type;
+    private final int index;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final T element;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given details.
+     * {@code element} should be null for a {@code REMOVE} change.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") Type type, @JsonProperty("index") int index,
+                             @JsonProperty("element") T element) {
+        this.type = type;
+        this.index = index;
+        this.element = element;
+    }
+
+    /**
+     * Applies this change to {@code list}.
+     *
+     * @throws IllegalValueException if a field is missing, or the index is out of bounds of {@code list}.
+     */
+    public void applyTo(List<T> list) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        if (type != Type.REMOVE && element == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "element"));
+        }
+        int size = type == Type.ADD ? list.size() + 1 : list.size();
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException(String.format(MESSAGE_INDEX_OUT_OF_BOUNDS, index));
+        }
+
+        switch (type) {
+        case ADD:
+            list.add(index, element);
+            break;
+        case REMOVE:
+            list.remove(index);
+            break;
+        case SET:
+            list.set(index, element);
+            break;
+        default:
+            throw new AssertionError("Unknown type of change: " + type);
+        }
+    }
+}
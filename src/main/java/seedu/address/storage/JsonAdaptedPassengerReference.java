@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.passenger.Passenger;
+
+/**
+ * Jackson-friendly reference to a {@link Passenger} in the passenger list, by its {@link PersonIdentity}.
+ * Stands in for a copy of the passenger wherever the passenger list is also stored.
+ */
+class JsonAdaptedPassengerReference {
+    public static final String MODEL_CLASS_NAME = "Passenger reference";
+    public static final StorageUtil MODEL_UTIL = new StorageUtil(MODEL_CLASS_NAME);
+
+    private final String name;
+    private final String phone;
+
+    /**
+     * Constructs a {@code JsonAdaptedPassengerReference} with the given passenger identity details.
+     */
+    @JsonCreator
+    public JsonAdaptedPassengerReference(@JsonProperty("name") String name, @JsonProperty("phone") String phone) {
+        this.name = name;
+        this.phone = phone;
+    }
+
+    /**
+     * Converts a reference to the given {@code Passenger} into this class for Jackson use.
+     */
+    public JsonAdaptedPassengerReference(Passenger source) {
+        this.name = source.getName().fullName;
+        this.phone = source.getPhone().value;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted reference into the identity of the passenger it refers to.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted reference.
+     */
+    public PersonIdentity toModelType() throws IllegalValueException {
+        final Name modelName = MODEL_UTIL.verifyAndReturnName(name);
+        final Phone modelPhone = MODEL_UTIL.verifyAndReturnPhone(phone);
+
+        return new PersonIdentity(modelName, modelPhone);
+    }
+
+}
@@ -1,16 +1,20 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.TripDay;
 import seedu.address.model.TripTime;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.person.driver.Driver;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.Pool;
@@ -18,6 +22,8 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Pool}.
+ * The passengers of the pool are either stored in full, or as references to the passengers in the passenger list of
+ * the address book. Files from before the references were introduced only have the full passengers.
  */
 class JsonAdaptedPool {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Pool's %s field is missing!";
@@ -27,7 +33,10 @@ class JsonAdaptedPool {
 
     private final String tripDayStr;
     private final String tripTimeStr;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<JsonAdaptedPassenger> passengers;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<JsonAdaptedPassengerReference> passengerRefs;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final JsonAdaptedDriver driver;
 
@@ -37,11 +46,13 @@ class JsonAdaptedPool {
     @JsonCreator
     public JsonAdaptedPool(@JsonProperty("tripDay") String tripDayStr, @JsonProperty("tripTime") String tripTimeStr,
                            @JsonProperty("passengers") List<JsonAdaptedPassenger> passengers,
+                           @JsonProperty("passengerRefs") List<JsonAdaptedPassengerReference> passengerRefs,
                            @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
                            @JsonProperty("driver") JsonAdaptedDriver driver) {
         this.tripDayStr = tripDayStr;
         this.tripTimeStr = tripTimeStr;
         this.passengers = passengers;
+        this.passengerRefs = passengerRefs;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
@@ -49,14 +60,34 @@ class JsonAdaptedPool {
     }
 
     /**
-     * Converts a given {@code Pool} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedPool} with the given fields and its passengers stored in full.
+     */
+    public JsonAdaptedPool(String tripDayStr, String tripTimeStr, List<JsonAdaptedPassenger> passengers,
+                           List<JsonAdaptedTag> tagged, JsonAdaptedDriver driver) {
+        this(tripDayStr, tripTimeStr, passengers, null, tagged, driver);
+    }
+
+    /**
+     * Converts a given {@code Pool} into this class for Jackson use, with its passengers stored in full.
      */
     public JsonAdaptedPool(Pool source) {
+        this(source, false);
+    }
+
+    private JsonAdaptedPool(Pool source, boolean isReferencingPassengers) {
         this.tripDayStr = source.getTripDayAsStr();
         this.tripTimeStr = source.getTripTimeAsStr();
-        this.passengers = source.getPassengers().stream()
-                .map(JsonAdaptedPassenger::new)
-                .collect(Collectors.toList());
+        if (isReferencingPassengers) {
+            this.passengers = null;
+            this.passengerRefs = source.getPassengers().stream()
+                    .map(JsonAdaptedPassengerReference::new)
+                    .collect(Collectors.toList());
+        } else {
+            this.passengers = source.getPassengers().stream()
+                    .map(JsonAdaptedPassenger::new)
+                    .collect(Collectors.toList());
+            this.passengerRefs = null;
+        }
         this.tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -64,17 +95,57 @@ class JsonAdaptedPool {
     }
 
     /**
-     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object.
+     * Converts a given {@code Pool} into this class for Jackson use, with its passengers stored as references to the
+     * passenger list of the address book.
+     */
+    public static JsonAdaptedPool withPassengerReferences(Pool source) {
+        return new JsonAdaptedPool(source, true);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted pool object into the model's {@code Pool} object.
+     * The passengers must be stored in full.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted pool.
      */
     public Pool toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted pool object into the model's {@code Pool} object.
+     * Passenger references are resolved to the passengers in {@code passengersByIdentity}. Passengers stored in full
+     * are replaced by the equal passenger in {@code passengersByIdentity}, if any, so that the pool shares the
+     * passengers of the address book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted pool, or a reference
+     *     does not refer to a passenger in {@code passengersByIdentity}.
+     */
+    public Pool toModelType(Map<PersonIdentity, Passenger> passengersByIdentity) throws IllegalValueException {
         final Driver modelDriver = driver.toModelType();
 
         final TripDay modelTripDay = MODEL_UTIL.verifyAndReturnTripDay(tripDayStr);
         final TripTime modelTripTime = MODEL_UTIL.verifyAndReturnTripTime(tripTimeStr);
 
-        final List<Passenger> modelPassengers = MODEL_UTIL.convertAdaptedPassengersToModel(passengers);
+        if (passengers == null && passengerRefs == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Passenger.class.getSimpleName()));
+        }
+        final List<Passenger> modelPassengers = new ArrayList<>();
+        if (passengerRefs != null) {
+            for (JsonAdaptedPassengerReference passengerRef : passengerRefs) {
+                Passenger passenger = passengersByIdentity.get(passengerRef.toModelType());
+                if (passenger == null) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_POOL_PASSENGER_INVALID);
+                }
+                modelPassengers.add(passenger);
+            }
+        } else {
+            for (Passenger passenger : MODEL_UTIL.convertAdaptedPassengersToModel(passengers)) {
+                Passenger listedPassenger = passengersByIdentity.get(passenger.getIdentity());
+                modelPassengers.add(passenger.equals(listedPassenger) ? listedPassenger : passenger);
+            }
+        }
         final Set<Tag> modelTags = MODEL_UTIL.convertAdaptedTagsToModel(tagged);
 
         return new Pool(modelDriver, modelTripDay, modelTripTime, modelPassengers, modelTags);
@@ -5,26 +5,38 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one passenger or pool at a time, and may be written without indentation to save space.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact whether to write the file without indentation and line breaks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +57,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (jsonAddressBook.isEmpty()) {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookStream.readFile(filePath).toModelType(ForkJoinPool.commonPool()));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +87,23 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        DataFileBackups.rotate(filePath);
+        JsonAddressBookStream.writeFile(addressBook, filePath, isCompact);
+    }
+
+    /**
+     * Returns true if the file is written without indentation and line breaks.
+     */
+    protected boolean isCompact() {
+        return isCompact;
+    }
+
+    /**
+     * Does nothing, as every save writes the whole address book to the data file.
+     */
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
     }
 
 }
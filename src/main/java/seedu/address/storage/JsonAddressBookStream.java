@@ -0,0 +1,471 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.WeakIdentityCache;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+
+/**
+ * Reads and writes AddressBook data files one passenger or pool at a time.
+ * Unlike {@link JsonUtil#readJsonFile(Path, Class)} and {@link JsonUtil#saveJsonFile(Object, Path)}, the whole file
+ * is never held in memory as a {@code String}, so the memory needed is about that of the address book itself.
+ * The files are in the same format as those written by {@link JsonUtil}, optionally without the indentation, with a
+ * CRC32 checksum of the rest of the file as the last field. Files without the checksum are read without checking it,
+ * so that a file can be edited by hand after removing its checksum.
+ */
+class JsonAddressBookStream {
+
+    private static final String VERSION_FIELD = "version";
+    private static final String PASSENGERS_FIELD = "passengers";
+    private static final String POOLS_FIELD = "pools";
+    private static final String PASSENGER_KEYS_FIELD = "passengerKeys";
+    private static final String POOL_KEYS_FIELD = "poolKeys";
+    private static final String CHECKSUM_FIELD = "checksum";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStream.class);
+
+    /** Encoded passengers and pools, looked up by the passenger or pool they were encoded from. */
+    private static final WeakIdentityCache<Object, String> INDENTED_RECORDS = new WeakIdentityCache<>();
+    private static final WeakIdentityCache<Object, String> COMPACT_RECORDS = new WeakIdentityCache<>();
+
+    private JsonAddressBookStream() {}
+
+    /**
+     * Reads a {@code JsonSerializableAddressBook} from the file at {@code filePath}, and checks it against the
+     * checksum embedded in it, if any.
+     *
+     * @throws IOException if the file could not be read, is not in the expected format or fails its embedded checksum.
+     */
+    static JsonSerializableAddressBook readFile(Path filePath) throws IOException {
+        return readFile(filePath, new CRC32());
+    }
+
+    /**
+     * Reads a {@code JsonSerializableAddressBook} from the file at {@code filePath}, and checks it against the
+     * checksum embedded in it, if any. Every byte of the file is added to {@code checksum}.
+     *
+     * @throws IOException if the file could not be read, is not in the expected format or fails its embedded checksum.
+     */
+    static JsonSerializableAddressBook readFile(Path filePath, Checksum checksum) throws IOException {
+        requireAllNonNull(filePath, checksum);
+        Content content;
+        try (CheckedInputStream in = new CheckedInputStream(
+                Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ)), checksum)) {
+            content = readContent(new BufferedInputStream(in, BUFFER_SIZE));
+            // the parser stops at the end of the data, so the checksum must take in any trailing whitespace
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        if (content.embeddedChecksum != null && content.embeddedChecksum != content.actualChecksum) {
+            throw new IOException("Address book file " + filePath + " does not match its " + CHECKSUM_FIELD
+                    + ", it was damaged or edited without removing the " + CHECKSUM_FIELD);
+        }
+        return content.addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, creating it if it does not exist.
+     * The file is replaced atomically, so a failed write leaves the old file as it was.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks.
+     * @throws IOException if the file could not be written.
+     */
+    static void writeFile(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        writeFile(addressBook, filePath, isCompact, new CRC32());
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, creating it if it does not exist.
+     * The file is replaced atomically, so a failed write leaves the old file as it was.
+     * Every byte written is added to {@code checksum}.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks.
+     * @throws IOException if the file could not be written.
+     */
+    static void writeFile(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact, Checksum checksum)
+            throws IOException {
+        requireAllNonNull(addressBook, filePath, checksum);
+        FileUtil.writeAtomically(filePath, out ->
+                write(addressBook, new CheckedOutputStream(out, checksum), isCompact));
+    }
+
+    /**
+     * Writes {@code segment}, one segment of an address book, to the file at {@code filePath} as
+     * {@link #writeFile(ReadOnlyAddressBook, Path, boolean, Checksum)} does, followed by the sort keys that order its
+     * passengers and pools among those of the other segments. The file is still an address book file by itself.
+     */
+    static void writeSegmentFile(ReadOnlyAddressBook segment, long[] passengerKeys, long[] poolKeys, Path filePath,
+                                 Checksum checksum) throws IOException {
+        requireAllNonNull(segment, passengerKeys, poolKeys, filePath, checksum);
+        assert passengerKeys.length == segment.getPassengerList().size();
+        assert poolKeys.length == segment.getPoolList().size();
+        FileUtil.writeAtomically(filePath, out ->
+                write(segment, new CheckedOutputStream(out, checksum), false, passengerKeys, poolKeys));
+    }
+
+    /**
+     * Reads a {@code JsonSerializableAddressBook} from {@code in}, decoding one passenger or pool at a time.
+     * Fields other than the passengers, the pools and their sort keys are skipped. The embedded checksum is not
+     * checked. {@code in} is left open.
+     *
+     * @throws IOException if {@code in} could not be read or is not in the expected format.
+     */
+    static JsonSerializableAddressBook read(InputStream in) throws IOException {
+        requireNonNull(in);
+        return readContent(in).addressBook;
+    }
+
+    /**
+     * Reads the content of an address book file from {@code in}. The checksum of the bytes before the embedded
+     * checksum field is computed in the same pass, as the bytes are parsed.
+     */
+    private static Content readContent(InputStream in) throws IOException {
+        List<JsonAdaptedPassenger> passengers = new ArrayList<>();
+        List<JsonAdaptedPool> pools = new ArrayList<>();
+        List<Long> passengerKeys = null;
+        List<Long> poolKeys = null;
+        Integer version = null;
+        Long embeddedChecksum = null;
+        LaggingCheckedInputStream checkedIn = new LaggingCheckedInputStream(in);
+
+        try (JsonParser parser = JsonUtil.createParser(checkedIn)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            checkedIn.checkUpTo(parser.getCurrentLocation().getByteOffset());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (embeddedChecksum != null) {
+                    throw new JsonParseException(parser, "Expected " + CHECKSUM_FIELD + " to be the last field");
+                }
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (CHECKSUM_FIELD.equals(fieldName)) {
+                    expectToken(parser, value, JsonToken.VALUE_NUMBER_INT);
+                    embeddedChecksum = parser.getLongValue();
+                    continue;
+                } else if (VERSION_FIELD.equals(fieldName)) {
+                    expectToken(parser, value, JsonToken.VALUE_NUMBER_INT);
+                    version = parser.getIntValue();
+                } else if (PASSENGERS_FIELD.equals(fieldName)) {
+                    readArray(parser, value, JsonAdaptedPassenger.class, passengers, checkedIn);
+                } else if (POOLS_FIELD.equals(fieldName)) {
+                    readArray(parser, value, JsonAdaptedPool.class, pools, checkedIn);
+                } else if (PASSENGER_KEYS_FIELD.equals(fieldName)) {
+                    passengerKeys = readKeys(parser, value);
+                } else if (POOL_KEYS_FIELD.equals(fieldName)) {
+                    poolKeys = readKeys(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+                checkedIn.checkUpTo(parser.getCurrentLocation().getByteOffset());
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+
+        return new Content(new JsonSerializableAddressBook(version, passengers, pools, passengerKeys, poolKeys),
+                embeddedChecksum, checkedIn.getValue());
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, encoding one passenger or pool at a time, followed by a CRC32
+     * checksum of everything written before it. Passengers and pools are immutable, so those written before are
+     * copied from the record cache instead of being encoded again. {@code out} is flushed and closed.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks.
+     * @throws IOException if {@code out} could not be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact) throws IOException {
+        requireAllNonNull(addressBook, out);
+        write(addressBook, out, isCompact, null, null);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as {@link #write(ReadOnlyAddressBook, OutputStream, boolean)} does,
+     * with the sort keys of its passengers and pools if they are not null.
+     */
+    private static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact,
+                              long[] passengerKeys, long[] poolKeys) throws IOException {
+        CRC32 embeddedChecksum = new CRC32();
+        try (RecordEncoder encoder = new RecordEncoder(isCompact); JsonGenerator generator = JsonUtil.createGenerator(
+                new CheckedOutputStream(out, embeddedChecksum), isCompact)) {
+            generator.writeStartObject();
+            generator.writeNumberField(VERSION_FIELD, JsonSerializableAddressBook.CURRENT_VERSION);
+            generator.writeArrayFieldStart(PASSENGERS_FIELD);
+            for (Passenger passenger : addressBook.getPassengerList()) {
+                generator.writeRawValue(encoder.encode(passenger, () -> new JsonAdaptedPassenger(passenger)));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(POOLS_FIELD);
+            for (Pool pool : addressBook.getPoolList()) {
+                generator.writeRawValue(encoder.encode(pool, () -> JsonAdaptedPool.withPassengerReferences(pool)));
+            }
+            generator.writeEndArray();
+            if (passengerKeys != null) {
+                writeKeys(generator, PASSENGER_KEYS_FIELD, passengerKeys);
+                writeKeys(generator, POOL_KEYS_FIELD, poolKeys);
+            }
+            // the embedded checksum covers everything up to here, so the generator must pass it all on first
+            generator.flush();
+            generator.writeNumberField(CHECKSUM_FIELD, embeddedChecksum.getValue());
+            generator.writeEndObject();
+            logger.info(encoder.getHitCount() + " of " + encoder.getRecordCount() + " records were already encoded ("
+                    + encoder.getHitRate() + "% cache hit rate)");
+        }
+    }
+
+    /**
+     * Reads the array starting at {@code token} into {@code elements}, one element at a time, adding the bytes of
+     * each element to the checksum of {@code checkedIn} once it has been read.
+     * A null array is read as an empty one.
+     */
+    private static <T> void readArray(JsonParser parser, JsonToken token, Class<T> elementType, List<T> elements,
+                                      LaggingCheckedInputStream checkedIn) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expectToken(parser, token, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expectToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+            elements.add(parser.readValueAs(elementType));
+            checkedIn.checkUpTo(parser.getCurrentLocation().getByteOffset());
+        }
+    }
+
+    /**
+     * Reads the array of sort keys starting at {@code token}. A null array is read as a missing one.
+     */
+    private static List<Long> readKeys(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(parser, token, JsonToken.START_ARRAY);
+        List<Long> keys = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expectToken(parser, parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT);
+            keys.add(parser.getLongValue());
+        }
+        return keys;
+    }
+
+    private static void writeKeys(JsonGenerator generator, String fieldName, long[] keys) throws IOException {
+        generator.writeFieldName(fieldName);
+        generator.writeArray(keys, 0, keys.length);
+    }
+
+    private static WeakIdentityCache<Object, String> getRecordCache(boolean isCompact) {
+        return isCompact ? COMPACT_RECORDS : INDENTED_RECORDS;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * The content of an address book file, with its embedded checksum, if any, and the checksum of the bytes that the
+     * embedded checksum covers.
+     */
+    private static class Content {
+        private final JsonSerializableAddressBook addressBook;
+        private final Long embeddedChecksum;
+        private final long actualChecksum;
+
+        Content(JsonSerializableAddressBook addressBook, Long embeddedChecksum, long actualChecksum) {
+            this.addressBook = addressBook;
+            this.embeddedChecksum = embeddedChecksum;
+            this.actualChecksum = actualChecksum;
+        }
+    }
+
+    /**
+     * An input stream that adds the bytes read through it to a CRC32 checksum only once they are known to be covered
+     * by the embedded checksum. The parser reads ahead of the value it returns, so the bytes read but not yet checked
+     * are held back until {@link #checkUpTo(long)} is called with an offset the parser has reached.
+     */
+    private static class LaggingCheckedInputStream extends FilterInputStream {
+        private final CRC32 checksum = new CRC32();
+        private byte[] pending = new byte[BUFFER_SIZE];
+        private int pendingStart;
+        private int pendingEnd;
+        private long checkedLength;
+
+        LaggingCheckedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b != -1) {
+                ensureCapacity(1);
+                pending[pendingEnd++] = (byte) b;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = in.read(b, off, len);
+            if (count > 0) {
+                hold(b, off, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] skipped = new byte[(int) Math.min(n, BUFFER_SIZE)];
+            return Math.max(0, read(skipped, 0, skipped.length));
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Adds the bytes before {@code offset} in the stream to the checksum.
+         */
+        void checkUpTo(long offset) {
+            int count = (int) Math.min(offset - checkedLength, pendingEnd - pendingStart);
+            if (count <= 0) {
+                return;
+            }
+            checksum.update(pending, pendingStart, count);
+            pendingStart += count;
+            checkedLength += count;
+        }
+
+        long getValue() {
+            return checksum.getValue();
+        }
+
+        private void hold(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, pending, pendingEnd, len);
+            pendingEnd += len;
+        }
+
+        /**
+         * Makes room for {@code len} more bytes after the pending bytes, moving the pending bytes to the start of the
+         * buffer first, and only growing the buffer if that is not enough.
+         */
+        private void ensureCapacity(int len) {
+            if (pendingEnd + len <= pending.length) {
+                return;
+            }
+            int pendingLength = pendingEnd - pendingStart;
+            byte[] target = pendingLength + len <= pending.length
+                    ? pending
+                    : new byte[Math.max(pending.length * 2, pendingLength + len)];
+            System.arraycopy(pending, pendingStart, target, 0, pendingLength);
+            pending = target;
+            pendingStart = 0;
+            pendingEnd = pendingLength;
+        }
+    }
+
+    /**
+     * Encodes passengers and pools as they appear in the arrays of the file, with the same indentation, and caches
+     * them by the passenger or pool they were encoded from.
+     */
+    private static class RecordEncoder implements Closeable {
+        private final boolean isCompact;
+        private final WeakIdentityCache<Object, String> cache;
+        private ByteArrayOutputStream buffer;
+        private JsonGenerator generator;
+        private int recordCount;
+        private int hitCount;
+
+        RecordEncoder(boolean isCompact) {
+            this.isCompact = isCompact;
+            this.cache = getRecordCache(isCompact);
+        }
+
+        /**
+         * Returns the encoding of {@code record}, encoding the Jackson-friendly record from {@code toJsonAdapted}
+         * only if {@code record} has not been encoded before.
+         */
+        String encode(Object record, Supplier<Object> toJsonAdapted) throws IOException {
+            recordCount++;
+            Optional<String> cached = cache.get(record);
+            if (cached.isPresent()) {
+                hitCount++;
+                return cached.get();
+            }
+            String encoded = encodeJsonAdapted(toJsonAdapted.get());
+            cache.put(record, encoded);
+            return encoded;
+        }
+
+        private String encodeJsonAdapted(Object jsonAdapted) throws IOException {
+            if (generator == null) {
+                buffer = new ByteArrayOutputStream();
+                generator = JsonUtil.createGenerator(buffer, isCompact);
+                // records are encoded inside an array of an object, so that they are indented as in the file
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PASSENGERS_FIELD);
+            }
+            generator.flush();
+            buffer.reset();
+            generator.writeObject(jsonAdapted);
+            generator.flush();
+            String encoded = buffer.toString(StandardCharsets.UTF_8);
+            // leave out the separator written before every record but the first
+            return encoded.substring(encoded.indexOf('{'));
+        }
+
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        int getHitCount() {
+            return hitCount;
+        }
+
+        int getHitRate() {
+            return recordCount == 0 ? 0 : hitCount * 100 / recordCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (generator != null) {
+                generator.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+import seedu.address.storage.JsonAdaptedChange.Type;
+
+/**
+ * Jackson-friendly record of the changes made to the passengers and pools of an address book between two saves.
+ * Changes are applied in order, and the index of each change refers to the list as left by the changes before it.
+ */
+class JsonJournalEntry {
+
+    private final List<JsonAdaptedChange<JsonAdaptedPassenger>> passengers = new ArrayList<>();
+    private final List<JsonAdaptedChange<JsonAdaptedPool>> pools = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("passengers") List<JsonAdaptedChange<JsonAdaptedPassenger>> passengers,
+                            @JsonProperty("pools") List<JsonAdaptedChange<JsonAdaptedPool>> pools) {
+        if (passengers != null) {
+            this.passengers.addAll(passengers);
+        }
+        if (pools != null) {
+            this.pools.addAll(pools);
+        }
+    }
+
+    /**
+     * Returns the changes that turn the saved passengers and pools into the current ones, or
+     * {@code Optional.empty()} if the lists have been reordered and cannot be described by changes.
+     * Elements are matched by reference, so only new or replaced elements are converted for Jackson use.
+     */
+    public static Optional<JsonJournalEntry> between(List<Passenger> savedPassengers, List<Passenger> passengers,
+                                                     List<Pool> savedPools, List<Pool> pools) {
+        Optional<List<JsonAdaptedChange<JsonAdaptedPassenger>>> passengerChanges =
+                getChanges(savedPassengers, passengers, JsonAdaptedPassenger::new);
+        Optional<List<JsonAdaptedChange<JsonAdaptedPool>>> poolChanges =
+                getChanges(savedPools, pools, JsonAdaptedPool::withPassengerReferences);
+        if (passengerChanges.isEmpty() || poolChanges.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonJournalEntry(passengerChanges.get(), poolChanges.get()));
+    }
+
+    /**
+     * Returns the changes that turn {@code saved} into {@code current}, matching elements by reference, or
+     * {@code Optional.empty()} if an element that is in both lists has moved.
+     * Both lists are walked once, and an element that is only in one of them is added, removed or replaced.
+     */
+    private static <E, T> Optional<List<JsonAdaptedChange<T>>> getChanges(List<E> saved, List<E> current,
+                                                                          Function<E, T> adapter) {
+        Set<E> inSaved = Collections.newSetFromMap(new IdentityHashMap<>());
+        inSaved.addAll(saved);
+        Set<E> inCurrent = Collections.newSetFromMap(new IdentityHashMap<>());
+        inCurrent.addAll(current);
+
+        List<JsonAdaptedChange<T>> changes = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < saved.size() || j < current.size()) {
+            if (i < saved.size() && j < current.size() && saved.get(i) == current.get(j)) {
+                i++;
+                j++;
+                continue;
+            }
+
+            boolean isRemoved = i < saved.size() && !inCurrent.contains(saved.get(i));
+            boolean isAdded = j < current.size() && !inSaved.contains(current.get(j));
+            if (isRemoved && isAdded) {
+                changes.add(new JsonAdaptedChange<>(Type.SET, j, adapter.apply(current.get(j))));
+                i++;
+                j++;
+            } else if (isRemoved) {
+                changes.add(new JsonAdaptedChange<>(Type.REMOVE, j, null));
+                i++;
+            } else if (isAdded) {
+                changes.add(new JsonAdaptedChange<>(Type.ADD, j, adapter.apply(current.get(j))));
+                j++;
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns the number of changes in this entry.
+     */
+    public int size() {
+        return passengers.size() + pools.size();
+    }
+
+    /**
+     * Applies the changes of this entry to the given lists of passengers and pools.
+     *
+     * @throws IllegalValueException if a change is invalid or does not fit the lists.
+     */
+    public void applyTo(List<JsonAdaptedPassenger> passengerList, List<JsonAdaptedPool> poolList)
+            throws IllegalValueException {
+        for (JsonAdaptedChange<JsonAdaptedPassenger> change : passengers) {
+            change.applyTo(passengerList);
+        }
+        for (JsonAdaptedChange<JsonAdaptedPool> change : pools) {
+            change.applyTo(poolList);
+        }
+    }
+}
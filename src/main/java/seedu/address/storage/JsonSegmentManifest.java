@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly manifest of an address book stored as one segment file per trip day.
+ * It lists the file and checksum of each segment. The order of the passengers and pools across segments is kept in
+ * the segments themselves, as sort keys, so the manifest does not grow with the address book.
+ * Each save writes its segments to new files, named with the generation of the manifest, so that the segments of
+ * the previous manifest are intact until the new manifest replaces it.
+ */
+class JsonSegmentManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Segment manifest's %s field is missing!";
+
+    private final long generation;
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("generation") long generation,
+                               @JsonProperty("segments") List<Segment> segments) {
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<Segment> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Returns true if {@code other} lists the same segment files.
+     */
+    public boolean hasSameContents(JsonSegmentManifest other) {
+        return segments.equals(other.segments);
+    }
+
+    /**
+     * Jackson-friendly entry of a segment in the manifest.
+     */
+    static class Segment {
+        private final String fileName;
+        private final long checksum;
+
+        /**
+         * Constructs a {@code Segment} for the file named {@code fileName} with the CRC32 checksum {@code checksum}.
+         */
+        @JsonCreator
+        public Segment(@JsonProperty("fileName") String fileName, @JsonProperty("checksum") long checksum) {
+            this.fileName = fileName;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the name of the segment file, in the folder of the manifest.
+         *
+         * @throws IllegalValueException if the name is missing or is not the name of a file in that folder.
+         */
+        public String getFileName() throws IllegalValueException {
+            if (fileName == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "fileName"));
+            }
+            if (fileName.isEmpty() || fileName.contains("/") || fileName.contains("\\") || fileName.startsWith(".")) {
+                throw new IllegalValueException("Segment file name " + fileName + " is not a file name.");
+            }
+            return fileName;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Segment // instanceof handles nulls
+                    && Objects.equals(fileName, ((Segment) other).fileName)
+                    && checksum == ((Segment) other).checksum);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(checksum);
+        }
+    }
+}
@@ -1,45 +1,90 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonIdentity;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.Pool;
+import seedu.address.model.pool.PoolIdentity;
+import seedu.address.storage.RecordConverter.Conversion;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Since version {@value #CURRENT_VERSION} of the format, pools refer to their passengers in the passenger list instead
+ * of holding copies of them. Files in older versions are read as they are, and are written in the current version
+ * the next time they are saved.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
+    public static final int CURRENT_VERSION = 2;
+    public static final int UNVERSIONED_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Address book file is in version %1$d, which is newer than the supported version " + CURRENT_VERSION + ".";
     public static final String MESSAGE_DUPLICATE_PASSENGER = "Passengers list contains duplicate passenger(s).";
     public static final String MESSAGE_DUPLICATE_POOL = "Pool list contains duplicate pool(s).";
     public static final String MESSAGE_DUPLICATE_PASSENGER_REF = "Two or more Pool(s) reference the same passenger.";
     public static final String MESSAGE_POOL_PASSENGER_INVALID = "Pool(s) contain passenger(s) not in passenger list.";
     public static final String MESSAGE_POOL_PASSENGER_DAY_MISMATCH =
             "Pool(s) contain passenger(s) with mismatched trip day.";
+    public static final String MESSAGE_SEGMENT_ORDER_MISMATCH =
+            "The passengers and pools of the segments do not each have a sort key, in increasing order.";
     public static final String MESSAGE_POOL_DRIVER_IS_PASSENGER =
             "Pool(s) contain passenger(s) that are driving themselves.";
 
+    private final int version;
     private final List<JsonAdaptedPassenger> passengers = new ArrayList<>();
     private final List<JsonAdaptedPool> pools = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<Long> passengerKeys;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<Long> poolKeys;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given passengers.
+     * Constructs a {@code JsonSerializableAddressBook} with the given passengers and pools.
+     * A missing {@code version} is taken to be {@value #UNVERSIONED_VERSION}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("passengers") List<JsonAdaptedPassenger> passengers,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("passengers") List<JsonAdaptedPassenger> passengers,
                                        @JsonProperty("pools") List<JsonAdaptedPool> pools) {
-        this.passengers.addAll(passengers);
-        this.pools.addAll(pools);
+        this(version, passengers, pools, null, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given passengers and pools, and the sort keys that
+     * order them among those of the other segments of the address book, if it is a segment.
+     */
+    JsonSerializableAddressBook(Integer version, List<JsonAdaptedPassenger> passengers, List<JsonAdaptedPool> pools,
+                                List<Long> passengerKeys, List<Long> poolKeys) {
+        this.version = version == null ? UNVERSIONED_VERSION : version;
+        if (passengers != null) {
+            this.passengers.addAll(passengers);
+        }
+        if (pools != null) {
+            this.pools.addAll(pools);
+        }
+        this.passengerKeys = passengerKeys;
+        this.poolKeys = poolKeys;
     }
 
     /**
@@ -48,47 +93,228 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this.version = CURRENT_VERSION;
         this.passengers.addAll(source.getPassengerList().stream().map(JsonAdaptedPassenger::new)
                 .collect(Collectors.toList()));
-        this.pools.addAll(source.getPoolList().stream().map(JsonAdaptedPool::new)
+        this.pools.addAll(source.getPoolList().stream().map(JsonAdaptedPool::withPassengerReferences)
                 .collect(Collectors.toList()));
+        this.passengerKeys = null;
+        this.poolKeys = null;
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Returns the address book made of the passengers and pools of {@code segments}, merged in the order of their
+     * sort keys, with the sort key of each passenger and pool. The records of each segment keep their order.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if a segment does not have one sort key for each record, in increasing order, or
+     *     two segments share a sort key.
      */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPassenger jsonAdaptedPassenger : passengers) {
-            Passenger passenger = jsonAdaptedPassenger.toModelType();
-            if (addressBook.hasPassenger(passenger)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PASSENGER);
+    public static JsonSerializableAddressBook join(List<JsonSerializableAddressBook> segments)
+            throws IllegalValueException {
+        List<Long> passengerKeys = new ArrayList<>();
+        List<JsonAdaptedPassenger> passengers = merge(segments, segment -> segment.passengers,
+                segment -> segment.passengerKeys, passengerKeys);
+        List<Long> poolKeys = new ArrayList<>();
+        List<JsonAdaptedPool> pools = merge(segments, segment -> segment.pools, segment -> segment.poolKeys, poolKeys);
+        int version = segments.stream().mapToInt(segment -> segment.version).max().orElse(CURRENT_VERSION);
+        return new JsonSerializableAddressBook(version, passengers, pools, passengerKeys, poolKeys);
+    }
+
+    /**
+     * Returns the records of {@code segments} in the order of their sort keys, and adds the sort key of each record
+     * in turn to {@code mergedKeys}. There are only a few segments, so the record with the smallest key is found by
+     * looking at the next record of each segment.
+     */
+    private static <T> List<T> merge(List<JsonSerializableAddressBook> segments,
+                                     Function<JsonSerializableAddressBook, List<T>> recordsOf,
+                                     Function<JsonSerializableAddressBook, List<Long>> keysOf,
+                                     List<Long> mergedKeys) throws IllegalValueException {
+        int recordCount = 0;
+        for (JsonSerializableAddressBook segment : segments) {
+            List<Long> keys = keysOf.apply(segment);
+            if (keys == null || keys.size() != recordsOf.apply(segment).size()) {
+                throw new IllegalValueException(MESSAGE_SEGMENT_ORDER_MISMATCH);
             }
-            addressBook.addPassenger(passenger);
+            for (int i = 1; i < keys.size(); i++) {
+                if (keys.get(i - 1) >= keys.get(i)) {
+                    throw new IllegalValueException(MESSAGE_SEGMENT_ORDER_MISMATCH);
+                }
+            }
+            recordCount += keys.size();
         }
-        for (JsonAdaptedPool jsonAdaptedPool : pools) {
-            Pool pool = jsonAdaptedPool.toModelType();
-            if (addressBook.hasPool(pool)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POOL);
+
+        int[] taken = new int[segments.size()];
+        List<T> records = new ArrayList<>(recordCount);
+        for (int n = 0; n < recordCount; n++) {
+            int next = -1;
+            long nextKey = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                List<Long> keys = keysOf.apply(segments.get(i));
+                if (taken[i] == keys.size()) {
+                    continue;
+                }
+                long key = keys.get(taken[i]);
+                if (next != -1 && key == nextKey) {
+                    throw new IllegalValueException(MESSAGE_SEGMENT_ORDER_MISMATCH);
+                }
+                if (next == -1 || key < nextKey) {
+                    next = i;
+                    nextKey = key;
+                }
             }
-            if (pool.getPassengers().stream().anyMatch(addressBook::hasPoolWithPassenger)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PASSENGER_REF);
+            records.add(recordsOf.apply(segments.get(next)).get(taken[next]++));
+            mergedKeys.add(nextKey);
+        }
+        return records;
+    }
+
+    /**
+     * Returns the sort keys of the passengers in turn, or an empty {@code Optional} if this is not a segment.
+     */
+    Optional<List<Long>> getPassengerKeys() {
+        return Optional.ofNullable(passengerKeys);
+    }
+
+    /**
+     * Returns the sort keys of the pools in turn, or an empty {@code Optional} if this is not a segment.
+     */
+    Optional<List<Long>> getPoolKeys() {
+        return Optional.ofNullable(poolKeys);
+    }
+
+    /**
+     * Applies the changes recorded in {@code entry} to this address book.
+     *
+     * @throws IllegalValueException if a change is invalid or does not fit this address book.
+     */
+    public void applyJournalEntry(JsonJournalEntry entry) throws IllegalValueException {
+        entry.applyTo(passengers, pools);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object.
+     * All passengers and pools are checked before the address book is built, with hash lookups so that the time
+     * taken grows linearly with the size of the address book. The passenger and pool lists are then set in one go.
+     *
+     * @throws IllegalValueException if there were any data constraints violated. Its message lists every kind of
+     *     violation found, one per line.
+     */
+    public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(RecordConverter.sequential());
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object like {@link #toModelType()}, but
+     * converts the passengers and pools in chunks on {@code pool}. The result is the same as that of
+     * {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(ForkJoinPool pool) throws IllegalValueException {
+        return toModelType(RecordConverter.parallel(pool));
+    }
+
+    private AddressBook toModelType(RecordConverter converter) throws IllegalValueException {
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        Set<String> violations = new LinkedHashSet<>();
+        Map<PersonIdentity, Passenger> passengersByIdentity = new HashMap<>();
+        List<Passenger> modelPassengers = toModelPassengers(converter, passengersByIdentity, violations);
+        List<Pool> modelPools = toModelPools(converter, passengersByIdentity, violations);
+        if (!violations.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", violations));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPassengers(modelPassengers);
+        addressBook.setPools(modelPools);
+        return addressBook;
+    }
+
+    /**
+     * Converts the passengers, keeping the first of any passengers with the same identity.
+     * Every passenger kept is put in {@code passengersByIdentity}, and every violation found is added to
+     * {@code violations}.
+     */
+    private List<Passenger> toModelPassengers(RecordConverter converter,
+                                              Map<PersonIdentity, Passenger> passengersByIdentity,
+                                              Set<String> violations) {
+        List<Passenger> modelPassengers = new ArrayList<>(passengers.size());
+        for (Conversion<Passenger> conversion : converter.convertAll(passengers, JsonAdaptedPassenger::toModelType)) {
+            if (conversion.getViolation().isPresent()) {
+                violations.add(conversion.getViolation().get());
+                continue;
             }
-            if (pool.getPassengers().stream().anyMatch(passenger -> !addressBook.hasEqualPassenger(passenger))) {
-                throw new IllegalValueException(MESSAGE_POOL_PASSENGER_INVALID);
+            Passenger passenger = conversion.getValue().get();
+
+            if (passengersByIdentity.putIfAbsent(passenger.getIdentity(), passenger) != null) {
+                violations.add(MESSAGE_DUPLICATE_PASSENGER);
+                continue;
             }
-            if (pool.getPassengers().stream().anyMatch(pass -> !pass.getTripDay().equals(pool.getTripDay()))) {
-                throw new IllegalValueException(MESSAGE_POOL_PASSENGER_DAY_MISMATCH);
+            modelPassengers.add(passenger);
+        }
+        return modelPassengers;
+    }
+
+    /**
+     * Converts the pools, resolving their passengers with {@code passengersByIdentity}, and keeps the valid ones.
+     * Invalid pools are left out of the checks on later pools. Every violation found is added to {@code violations}.
+     */
+    private List<Pool> toModelPools(RecordConverter converter, Map<PersonIdentity, Passenger> passengersByIdentity,
+                                    Set<String> violations) {
+        List<Pool> modelPools = new ArrayList<>(pools.size());
+        Set<PoolIdentity> poolIdentities = new HashSet<>();
+        Set<PersonIdentity> pooledPassengerIdentities = new HashSet<>();
+        List<Conversion<Pool>> conversions =
+                converter.convertAll(pools, jsonAdaptedPool -> jsonAdaptedPool.toModelType(passengersByIdentity));
+        for (Conversion<Pool> conversion : conversions) {
+            if (conversion.getViolation().isPresent()) {
+                violations.add(conversion.getViolation().get());
+                continue;
             }
-            if (pool.getPassengers().stream().anyMatch(pass -> pass.isSamePerson(pool.getDriver()))) {
-                throw new IllegalValueException(MESSAGE_POOL_DRIVER_IS_PASSENGER);
+            Pool pool = conversion.getValue().get();
+
+            Optional<String> violation =
+                    findViolation(pool, passengersByIdentity, poolIdentities, pooledPassengerIdentities);
+            if (violation.isPresent()) {
+                violations.add(violation.get());
+                continue;
             }
-            addressBook.addPool(pool);
+            poolIdentities.add(pool.getIdentity());
+            pool.getPassengers().forEach(passenger -> pooledPassengerIdentities.add(passenger.getIdentity()));
+            modelPools.add(pool);
         }
-
-        return addressBook;
+        return modelPools;
     }
 
+    /**
+     * Returns the first violation of {@code pool}, given the identities of the valid pools before it and of the
+     * passengers in them, or {@code Optional.empty()} if it is valid.
+     */
+    private static Optional<String> findViolation(Pool pool, Map<PersonIdentity, Passenger> passengersByIdentity,
+                                                  Set<PoolIdentity> poolIdentities,
+                                                  Set<PersonIdentity> pooledPassengerIdentities) {
+        List<Passenger> poolPassengers = pool.getPassengers();
+        if (poolIdentities.contains(pool.getIdentity())) {
+            return Optional.of(MESSAGE_DUPLICATE_POOL);
+        }
+        if (poolPassengers.stream().anyMatch(passenger -> pooledPassengerIdentities.contains(passenger.getIdentity()))
+                || poolPassengers.stream().map(Passenger::getIdentity).distinct().count() < poolPassengers.size()) {
+            return Optional.of(MESSAGE_DUPLICATE_PASSENGER_REF);
+        }
+        // pooled passengers are resolved to the listed passengers, so any other instance is not in the list
+        Predicate<Passenger> isNotListed = passenger -> passengersByIdentity.get(passenger.getIdentity()) != passenger;
+        if (poolPassengers.stream().anyMatch(isNotListed)) {
+            return Optional.of(MESSAGE_POOL_PASSENGER_INVALID);
+        }
+        if (poolPassengers.stream().anyMatch(passenger -> !passenger.getTripDay().equals(pool.getTripDay()))) {
+            return Optional.of(MESSAGE_POOL_PASSENGER_DAY_MISMATCH);
+        }
+        if (poolPassengers.stream().anyMatch(passenger -> passenger.isSamePerson(pool.getDriver()))) {
+            return Optional.of(MESSAGE_POOL_DRIVER_IS_PASSENGER);
+        }
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly records into model objects, either one after another or in chunks on a
+ * {@code ForkJoinPool}. The results are always in the order of the records, so that a parallel conversion gives the
+ * same results as a sequential one.
+ */
+class RecordConverter {
+
+    /** Number of records converted by each task of a parallel conversion. */
+    public static final int CHUNK_SIZE = 256;
+
+    private final Optional<ForkJoinPool> pool;
+
+    private RecordConverter(Optional<ForkJoinPool> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a {@code RecordConverter} that converts records one after another on the calling thread.
+     */
+    public static RecordConverter sequential() {
+        return new RecordConverter(Optional.empty());
+    }
+
+    /**
+     * Returns a {@code RecordConverter} that converts records in chunks of {@value #CHUNK_SIZE} on {@code pool}.
+     */
+    public static RecordConverter parallel(ForkJoinPool pool) {
+        requireNonNull(pool);
+        return new RecordConverter(Optional.of(pool));
+    }
+
+    /**
+     * Converts every record with {@code converter}, and returns the results in the order of {@code records}.
+     * A record that cannot be converted results in the message of the {@code IllegalValueException} thrown.
+     * {@code converter} must be safe to call from several threads at once if this converter is parallel.
+     */
+    public <R, M> List<Conversion<M>> convertAll(List<R> records, Converter<R, M> converter) {
+        requireAllNonNull(records, converter);
+        @SuppressWarnings("unchecked")
+        Conversion<M>[] conversions = new Conversion[records.size()];
+        ConvertTask<R, M> task = new ConvertTask<>(records, converter, conversions, 0, records.size());
+        if (pool.isPresent() && records.size() > CHUNK_SIZE) {
+            pool.get().invoke(task);
+        } else {
+            task.convertRange();
+        }
+        return Arrays.asList(conversions);
+    }
+
+    /**
+     * Converts a Jackson-friendly record into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<R, M> {
+        M convert(R record) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting a record: either the model object, or the reason it could not be converted.
+     */
+    static class Conversion<M> {
+        private final M value;
+        private final String violation;
+
+        private Conversion(M value, String violation) {
+            this.value = value;
+            this.violation = violation;
+        }
+
+        /**
+         * Returns the model object, or {@code Optional.empty()} if the record could not be converted.
+         */
+        public Optional<M> getValue() {
+            return Optional.ofNullable(value);
+        }
+
+        /**
+         * Returns the reason the record could not be converted, or {@code Optional.empty()} if it was converted.
+         */
+        public Optional<String> getViolation() {
+            return Optional.ofNullable(violation);
+        }
+    }
+
+    /**
+     * Converts the records in a range of indexes, splitting the range in halves until it fits in a chunk.
+     * Each result is written to its own slot, so the tasks need no further synchronisation.
+     */
+    private static class ConvertTask<R, M> extends RecursiveAction {
+        private final List<R> records;
+        private final Converter<R, M> converter;
+        private final Conversion<M>[] conversions;
+        private final int from;
+        private final int to;
+
+        ConvertTask(List<R> records, Converter<R, M> converter, Conversion<M>[] conversions, int from, int to) {
+            this.records = records;
+            this.converter = converter;
+            this.conversions = conversions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                convertRange();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertTask<>(records, converter, conversions, from, middle),
+                    new ConvertTask<>(records, converter, conversions, middle, to));
+        }
+
+        void convertRange() {
+            for (int i = from; i < to; i++) {
+                try {
+                    conversions[i] = new Conversion<>(converter.convert(records.get(i)), null);
+                } catch (IllegalValueException ive) {
+                    conversions[i] = new Conversion<>(null, ive.getMessage());
+                }
+            }
+        }
+    }
+}
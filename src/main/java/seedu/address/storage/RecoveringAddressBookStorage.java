@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps an {@code AddressBookStorage} so that a data file that cannot be read, such as one that fails its checksum,
+ * is recovered from the newest of its backups that can be read.
+ * The damaged data file is moved aside, so that it is kept for inspection but not overwritten or backed up.
+ * Every snapshot of the data file written by the wrapped storage should be preceded by
+ * {@link DataFileBackups#rotate(Path)}.
+ */
+public class RecoveringAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_RECOVERED = "The data file %1$s could not be read and has been moved to %2$s.\n"
+            + "The address book was recovered from the backup %3$s, so changes made after that backup are missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(RecoveringAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private String recoveryMessage;
+
+    /**
+     * Creates a {@code RecoveringAddressBookStorage} that reads and writes through {@code storage}.
+     */
+    public RecoveringAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor any of its backups is in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        recoveryMessage = null;
+
+        try {
+            return storage.readAddressBook(filePath);
+        } catch (DataConversionException e) {
+            Path damagedPath = DataFileBackups.moveAside(filePath);
+            logger.warning("Data file " + filePath + " is damaged, it has been moved to " + damagedPath);
+            for (Path backupPath : DataFileBackups.getBackupPaths(filePath)) {
+                Optional<ReadOnlyAddressBook> addressBook = readBackup(backupPath);
+                if (addressBook.isPresent()) {
+                    recoveryMessage = String.format(MESSAGE_RECOVERED, filePath, damagedPath, backupPath);
+                    logger.warning(recoveryMessage);
+                    return addressBook;
+                }
+            }
+            logger.warning("No backup of " + filePath + " could be read");
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a message for the user describing how the last read recovered the address book from a backup, or an
+     * empty {@code Optional} if the last read did not need to.
+     */
+    public Optional<String> getRecoveryMessage() {
+        return Optional.ofNullable(recoveryMessage);
+    }
+
+    private Optional<ReadOnlyAddressBook> readBackup(Path backupPath) {
+        try {
+            return storage.readAddressBook(backupPath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Backup " + backupPath + " is damaged too: " + e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.flushAddressBook(addressBook);
+    }
+
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The rows to write to a database table to turn the saved elements of a list into the current ones.
+ * Elements are matched to their saved rows by reference, as they are immutable. A new element takes over the row of
+ * a removed element with the same identity, so that an edited element is updated in place and rows referring to it
+ * stay valid; any other new element gets a new row.
+ * <p>
+ * The order of the list is kept as a sparse sort key in each row rather than as the position of the element, so that
+ * removing an element does not move the elements after it (see {@link SortKeys}).
+ *
+ * @param <E> the type of the elements of the list.
+ */
+class RowChanges<E> {
+
+    private final Map<E, Long> ids = new IdentityHashMap<>();
+    private final Map<E, Long> keys = new IdentityHashMap<>();
+    private final List<Integer> writtenPositions = new ArrayList<>();
+    private final List<Integer> movedPositions = new ArrayList<>();
+    private final List<Long> deletedIds = new ArrayList<>();
+    private long nextId;
+
+    private RowChanges(long nextId) {
+        this.nextId = nextId;
+    }
+
+    /**
+     * Returns the changes that turn the rows of {@code saved} into rows for {@code current}.
+     * {@code identityOf} returns the identity by which an edited element is matched to the row it was edited from.
+     */
+    static <E> RowChanges<E> between(SavedRows<E> saved, List<E> current, Function<E, ?> identityOf) {
+        requireAllNonNull(saved, current, identityOf);
+        Set<E> inCurrent = Collections.newSetFromMap(new IdentityHashMap<>());
+        inCurrent.addAll(current);
+
+        List<Long> deletedIds = new ArrayList<>();
+        Map<Object, Long> removedIds = new HashMap<>();
+        for (Map.Entry<E, Long> row : saved.ids.entrySet()) {
+            if (!inCurrent.contains(row.getKey())) {
+                Long replacedId = removedIds.put(identityOf.apply(row.getKey()), row.getValue());
+                if (replacedId != null) {
+                    deletedIds.add(replacedId);
+                }
+            }
+        }
+
+        RowChanges<E> changes = new RowChanges<>(saved.nextId);
+        for (E element : current) {
+            Long id = saved.ids.get(element);
+            if (id == null) {
+                id = removedIds.remove(identityOf.apply(element));
+            }
+            if (id == null) {
+                id = changes.nextId++;
+            }
+            changes.ids.put(element, id);
+        }
+        changes.deletedIds.addAll(deletedIds);
+        changes.deletedIds.addAll(removedIds.values());
+
+        long[] newKeys = SortKeys.assign(saved.keys, current);
+        for (int position = 0; position < current.size(); position++) {
+            E element = current.get(position);
+            Long savedKey = saved.keys.get(element);
+            if (savedKey == null) {
+                changes.writtenPositions.add(position);
+            } else if (savedKey != newKeys[position]) {
+                changes.movedPositions.add(position);
+            }
+            changes.keys.put(element, newKeys[position]);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the id of the row of {@code element}, which must be in the current list.
+     */
+    long getId(E element) {
+        Long id = ids.get(element);
+        assert id != null : "Element is not in the list";
+        return id;
+    }
+
+    /**
+     * Returns the sort key of the row of {@code element}, which must be in the current list.
+     */
+    long getKey(E element) {
+        Long key = keys.get(element);
+        assert key != null : "Element is not in the list";
+        return key;
+    }
+
+    /**
+     * Returns the positions of the elements whose rows must be inserted or overwritten, in ascending order.
+     */
+    List<Integer> getWrittenPositions() {
+        return writtenPositions;
+    }
+
+    /**
+     * Returns the positions of the unchanged elements whose sort keys must be updated, in ascending order.
+     * This is empty unless the keys of the list had to be spread out again.
+     */
+    List<Integer> getMovedPositions() {
+        return movedPositions;
+    }
+
+    /**
+     * Returns the ids of the rows of removed elements that no new element has taken over.
+     */
+    List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    /**
+     * Returns true if no row needs to be written.
+     */
+    boolean isEmpty() {
+        return writtenPositions.isEmpty() && movedPositions.isEmpty() && deletedIds.isEmpty();
+    }
+
+    /**
+     * Returns the rows as they will be once these changes are written.
+     */
+    SavedRows<E> toSavedRows(List<E> current) {
+        SavedRows<E> rows = new SavedRows<>(nextId);
+        for (E element : current) {
+            rows.put(element, getId(element), getKey(element));
+        }
+        return rows;
+    }
+
+    /**
+     * The ids and sort keys of the rows of the elements of a list, as last read from or written to a table.
+     */
+    static class SavedRows<E> {
+        private final Map<E, Long> ids = new IdentityHashMap<>();
+        private final Map<E, Long> keys = new IdentityHashMap<>();
+        private final long nextId;
+
+        /**
+         * Creates an empty {@code SavedRows} whose next new row gets the id {@code nextId}.
+         */
+        SavedRows(long nextId) {
+            this.nextId = nextId;
+        }
+
+        /**
+         * Records that {@code element} is in the row {@code id} with the sort key {@code key}.
+         */
+        void put(E element, long id, long key) {
+            assert id < nextId : "Row ids must be smaller than the next id";
+            ids.put(element, id);
+            keys.put(element, key);
+        }
+    }
+}
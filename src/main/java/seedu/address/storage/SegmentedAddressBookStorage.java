@@ -0,0 +1,478 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TripDay;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+
+/**
+ * A class to access AddressBook data stored as one json segment file per trip day, listed in a manifest file.
+ * Passengers and pools never cross trip days, so each segment is a valid address book file by itself.
+ * <p>
+ * Saving only writes the segments of the trip days whose passengers or pools changed since the last save or read,
+ * matching them by reference, and then the manifest. Each segment keeps the sparse sort keys of its passengers and
+ * pools (see {@link SortKeys}), which order them across segments, so a change to one trip day does not change the
+ * other segments or make the manifest grow with the address book. Segments are written to new files, so a failed
+ * save leaves the previous manifest and its segments as they were. Reading reads the segments in parallel.
+ * <p>
+ * If the manifest does not exist, the json data file it replaces, if any, is read instead, and split into segments
+ * on the next save, after which it is moved aside (see {@link DataFileConversions}).
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_SUFFIX = ".manifest.json";
+    public static final String MESSAGE_CONSTRAINTS = "Manifest file names must end with " + MANIFEST_FILE_SUFFIX;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Optional<Path> jsonFilePath;
+    private JsonSegmentManifest savedManifest;
+    private Map<DayOfWeek, SavedSegment> savedSegments;
+    private boolean isMigratingJsonFile;
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} for the manifest file at {@code filePath}.
+     */
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} for the manifest file at {@code filePath}, whose segments are
+     * split from the json data file at {@code jsonFilePath} if the manifest does not exist. The json data file is then
+     * moved aside.
+     */
+    public SegmentedAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this(filePath, Optional.of(jsonFilePath));
+    }
+
+    private SegmentedAddressBookStorage(Path filePath, Optional<Path> jsonFilePath) {
+        requireNonNull(filePath);
+        checkArgument(isValidManifestFilePath(filePath), MESSAGE_CONSTRAINTS);
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a manifest file.
+     */
+    public static boolean isValidManifestFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(MANIFEST_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the manifest file that replaces the data file at {@code dataFilePath}, which has the name
+     * of the data file without its extension. A path that already names a manifest file is returned as it is.
+     */
+    public static Path getManifestFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        if (isValidManifestFilePath(dataFilePath)) {
+            return dataFilePath;
+        }
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + MANIFEST_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a segment is not in the correct format, or a segment does
+     *     not match its checksum in the manifest.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            forgetSavedState();
+            isMigratingJsonFile = false;
+        }
+
+        if (!FileUtil.isFileExists(filePath)) {
+            if (isOwnFile && jsonFilePath.isPresent() && FileUtil.isFileExists(jsonFilePath.get())) {
+                logger.info("Manifest file " + filePath + " not found, splitting json file " + jsonFilePath.get());
+                isMigratingJsonFile = true;
+                return new JournaledAddressBookStorage(jsonFilePath.get()).readAddressBook();
+            }
+            logger.info("Manifest file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JsonSegmentManifest manifest = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class).get();
+        try {
+            List<JsonSerializableAddressBook> segments = readSegments(filePath, manifest);
+            JsonSerializableAddressBook jsonAddressBook = JsonSerializableAddressBook.join(segments);
+            AddressBook addressBook = jsonAddressBook.toModelType(ForkJoinPool.commonPool());
+            if (isOwnFile) {
+                savedManifest = manifest;
+                savedSegments = toSavedSegments(filePath, addressBook,
+                        toArray(jsonAddressBook.getPassengerKeys().get()),
+                        toArray(jsonAddressBook.getPoolKeys().get()), manifest);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading the segments of " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the segments of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Saving to a manifest other than this storage's
+     * writes every segment.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        checkArgument(isValidManifestFilePath(filePath), MESSAGE_CONSTRAINTS);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Optional<JsonSegmentManifest> previousManifest = isOwnFile && savedManifest != null
+                ? Optional.of(savedManifest)
+                : readManifestIfValid(filePath);
+        Map<DayOfWeek, SavedSegment> previousSegments = isOwnFile && savedSegments != null
+                ? savedSegments
+                : new EnumMap<>(DayOfWeek.class);
+        long generation = previousManifest.map(JsonSegmentManifest::getGeneration).orElse(0L) + 1;
+
+        List<Passenger> passengers = new ArrayList<>(addressBook.getPassengerList());
+        List<Pool> pools = new ArrayList<>(addressBook.getPoolList());
+        long[] passengerKeys = SortKeys.assign(
+                getSavedKeys(previousSegments, AddressBookSnapshot::getPassengerList, segment -> segment.passengerKeys),
+                passengers);
+        long[] poolKeys = SortKeys.assign(
+                getSavedKeys(previousSegments, AddressBookSnapshot::getPoolList, segment -> segment.poolKeys), pools);
+        Map<DayOfWeek, SavedSegment> segments = splitByTripDay(passengers, passengerKeys, pools, poolKeys);
+        List<DayOfWeek> days = new ArrayList<>(segments.keySet());
+        List<JsonSegmentManifest.Segment> entries = new ArrayList<>();
+        int writtenCount = 0;
+        for (DayOfWeek day : days) {
+            SavedSegment segment = segments.get(day);
+            SavedSegment previousSegment = previousSegments.get(day);
+            if (previousSegment != null && previousSegment.hasSameRecords(segment)) {
+                segment.entry = previousSegment.entry;
+            } else {
+                String fileName = getSegmentFileName(filePath, day, generation);
+                CRC32 checksum = new CRC32();
+                JsonAddressBookStream.writeSegmentFile(segment.snapshot, segment.passengerKeys, segment.poolKeys,
+                        filePath.resolveSibling(fileName), checksum);
+                segment.entry = new JsonSegmentManifest.Segment(fileName, checksum.getValue());
+                writtenCount++;
+            }
+            entries.add(segment.entry);
+        }
+
+        JsonSegmentManifest manifest = new JsonSegmentManifest(generation, entries);
+        if (previousManifest.isPresent() && previousManifest.get().hasSameContents(manifest)) {
+            return;
+        }
+        if (isOwnFile) {
+            forgetSavedState();
+        }
+        JsonUtil.saveJsonFile(manifest, filePath);
+        if (previousManifest.isPresent()) {
+            deleteUnusedSegments(filePath, previousManifest.get(), manifest);
+        }
+
+        if (isOwnFile) {
+            savedManifest = manifest;
+            savedSegments = segments;
+            if (isMigratingJsonFile) {
+                DataFileConversions.moveConvertedAside(jsonFilePath.get());
+                isMigratingJsonFile = false;
+            }
+        }
+        logger.fine("Wrote " + writtenCount + " of " + days.size() + " segments of " + filePath);
+    }
+
+    /**
+     * Does nothing, as every save writes the changed segments and the manifest.
+     */
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Joins the segments listed in the manifest file at {@code filePath} into a json data file at
+     * {@code jsonFilePath}.
+     *
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     * @throws IOException if the manifest file does not exist or the json file could not be written.
+     */
+    public static void exportJson(Path filePath, Path jsonFilePath) throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        ReadOnlyAddressBook addressBook = new SegmentedAddressBookStorage(filePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(filePath.toString()));
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the name of the file of the segment of {@code day} written with the manifest of {@code generation}.
+     */
+    static String getSegmentFileName(Path manifestFilePath, DayOfWeek day, long generation) {
+        return getSegmentFileNamePrefix(manifestFilePath, day) + generation + ".json";
+    }
+
+    private static String getSegmentFileNamePrefix(Path manifestFilePath, DayOfWeek day) {
+        String manifestFileName = manifestFilePath.getFileName().toString();
+        String baseName = manifestFileName.substring(0, manifestFileName.length() - MANIFEST_FILE_SUFFIX.length());
+        return baseName + "." + day.name().toLowerCase() + ".";
+    }
+
+    /**
+     * Reads the segments listed in {@code manifest} in parallel, checking each against its checksum.
+     */
+    private static List<JsonSerializableAddressBook> readSegments(Path manifestFilePath, JsonSegmentManifest manifest)
+            throws IOException, IllegalValueException {
+        List<Callable<JsonSerializableAddressBook>> tasks = new ArrayList<>();
+        for (JsonSegmentManifest.Segment entry : manifest.getSegments()) {
+            Path segmentFilePath = manifestFilePath.resolveSibling(entry.getFileName());
+            tasks.add(() -> readSegment(segmentFilePath, entry.getChecksum()));
+        }
+
+        List<JsonSerializableAddressBook> segments = new ArrayList<>();
+        for (Future<JsonSerializableAddressBook> segment : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                segments.add(segment.get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+        return segments;
+    }
+
+    private static JsonSerializableAddressBook readSegment(Path segmentFilePath, long expectedChecksum)
+            throws IOException {
+        CRC32 checksum = new CRC32();
+        JsonSerializableAddressBook segment = JsonAddressBookStream.readFile(segmentFilePath, checksum);
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IOException("Segment file " + segmentFilePath + " does not match its checksum in the manifest");
+        }
+        return segment;
+    }
+
+    private static Optional<JsonSegmentManifest> readManifestIfValid(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class);
+        } catch (DataConversionException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the segment files of {@code previousManifest} that {@code manifest} no longer lists.
+     * A file that cannot be deleted is only logged, as it is never read again.
+     */
+    private static void deleteUnusedSegments(Path manifestFilePath, JsonSegmentManifest previousManifest,
+                                             JsonSegmentManifest manifest) {
+        Set<JsonSegmentManifest.Segment> usedSegments = new HashSet<>(manifest.getSegments());
+        for (JsonSegmentManifest.Segment entry : previousManifest.getSegments()) {
+            if (usedSegments.contains(entry)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(manifestFilePath.resolveSibling(entry.getFileName()));
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Could not delete unused segment of " + manifestFilePath + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Returns the passengers and pools of each trip day, in their order in {@code passengers} and {@code pools}, with
+     * their sort keys, by trip day.
+     */
+    private static Map<DayOfWeek, SavedSegment> splitByTripDay(List<Passenger> passengers, long[] passengerKeys,
+                                                               List<Pool> pools, long[] poolKeys) {
+        Map<DayOfWeek, List<Integer>> passengersByDay = groupByTripDay(passengers, Passenger::getTripDay);
+        Map<DayOfWeek, List<Integer>> poolsByDay = groupByTripDay(pools, Pool::getTripDay);
+
+        Map<DayOfWeek, SavedSegment> segments = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            List<Integer> dayPassengers = passengersByDay.getOrDefault(day, new ArrayList<>());
+            List<Integer> dayPools = poolsByDay.getOrDefault(day, new ArrayList<>());
+            if (!dayPassengers.isEmpty() || !dayPools.isEmpty()) {
+                segments.put(day, new SavedSegment(
+                        AddressBookSnapshot.of(select(passengers, dayPassengers), select(pools, dayPools)),
+                        select(passengerKeys, dayPassengers), select(poolKeys, dayPools)));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the positions in {@code records} of the records of each trip day, in order, by trip day.
+     */
+    private static <E> Map<DayOfWeek, List<Integer>> groupByTripDay(List<E> records,
+                                                                    Function<E, TripDay> tripDayOf) {
+        Map<DayOfWeek, List<Integer>> positionsByDay = new EnumMap<>(DayOfWeek.class);
+        for (int position = 0; position < records.size(); position++) {
+            positionsByDay.computeIfAbsent(tripDayOf.apply(records.get(position)).getDayOfWeek(),
+                    day -> new ArrayList<>()).add(position);
+        }
+        return positionsByDay;
+    }
+
+    private static <E> List<E> select(List<E> records, List<Integer> positions) {
+        List<E> selected = new ArrayList<>(positions.size());
+        positions.forEach(position -> selected.add(records.get(position)));
+        return selected;
+    }
+
+    private static long[] select(long[] keys, List<Integer> positions) {
+        long[] selected = new long[positions.size()];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = keys[positions.get(i)];
+        }
+        return selected;
+    }
+
+    private static long[] toArray(List<Long> keys) {
+        return keys.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Returns the sort keys of the records of {@code segments}, by record.
+     */
+    private static <E> Map<E, Long> getSavedKeys(Map<DayOfWeek, SavedSegment> segments,
+                                                 Function<AddressBookSnapshot, List<E>> recordsOf,
+                                                 Function<SavedSegment, long[]> keysOf) {
+        Map<E, Long> keys = new IdentityHashMap<>();
+        for (SavedSegment segment : segments.values()) {
+            List<E> records = recordsOf.apply(segment.snapshot);
+            for (int i = 0; i < records.size(); i++) {
+                keys.put(records.get(i), keysOf.apply(segment)[i]);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the segments of {@code addressBook}, which was read from the segments listed in {@code manifest} with
+     * the sort keys {@code passengerKeys} and {@code poolKeys}.
+     * Segments are only matched to the entries of the manifest if the entries are named after their trip days in
+     * order, as a hand-edited manifest may list them otherwise; unmatched segments are written on the next save.
+     */
+    private static Map<DayOfWeek, SavedSegment> toSavedSegments(Path manifestFilePath, AddressBook addressBook,
+                                                                long[] passengerKeys, long[] poolKeys,
+                                                                JsonSegmentManifest manifest)
+            throws IllegalValueException {
+        Map<DayOfWeek, SavedSegment> segments = splitByTripDay(addressBook.getPassengerList(), passengerKeys,
+                addressBook.getPoolList(), poolKeys);
+        List<JsonSegmentManifest.Segment> entries = manifest.getSegments();
+        if (segments.size() != entries.size()) {
+            return new EnumMap<>(DayOfWeek.class);
+        }
+        int i = 0;
+        for (Map.Entry<DayOfWeek, SavedSegment> segment : segments.entrySet()) {
+            JsonSegmentManifest.Segment entry = entries.get(i++);
+            if (!entry.getFileName().startsWith(getSegmentFileNamePrefix(manifestFilePath, segment.getKey()))) {
+                return new EnumMap<>(DayOfWeek.class);
+            }
+            segment.getValue().entry = entry;
+        }
+        return segments;
+    }
+
+    private void forgetSavedState() {
+        savedManifest = null;
+        savedSegments = null;
+    }
+
+    /**
+     * The passengers and pools of one trip day with their sort keys, and the manifest entry of the file they are saved
+     * in.
+     */
+    private static class SavedSegment {
+        private final AddressBookSnapshot snapshot;
+        private final long[] passengerKeys;
+        private final long[] poolKeys;
+        private JsonSegmentManifest.Segment entry;
+
+        SavedSegment(AddressBookSnapshot snapshot, long[] passengerKeys, long[] poolKeys) {
+            this.snapshot = snapshot;
+            this.passengerKeys = passengerKeys;
+            this.poolKeys = poolKeys;
+        }
+
+        /**
+         * Returns true if {@code other} has the same passengers and pools, by reference, in the same order and with
+         * the same sort keys.
+         */
+        boolean hasSameRecords(SavedSegment other) {
+            return isSameByReference(snapshot.getPassengerList(), other.snapshot.getPassengerList())
+                    && isSameByReference(snapshot.getPoolList(), other.snapshot.getPoolList())
+                    && Arrays.equals(passengerKeys, other.passengerKeys) && Arrays.equals(poolKeys, other.poolKeys);
+        }
+
+        private static boolean isSameByReference(List<?> first, List<?> second) {
+            if (first.size() != second.size()) {
+                return false;
+            }
+            for (int i = 0; i < first.size(); i++) {
+                if (first.get(i) != second.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns sparse sort keys to the elements of a list, so that the order of the list can be stored with each element
+ * instead of as its position. Elements that keep their saved keys do not have to be written again when other
+ * elements are added or removed.
+ */
+class SortKeys {
+
+    /** The distance between the keys of consecutive elements when keys are spread out. */
+    static final long KEY_GAP = 1L << 16;
+
+    private SortKeys() {}
+
+    /**
+     * Returns the sort key of each element of {@code current}. Elements with keys in {@code savedKeys} keep them as
+     * long as they are still in increasing order, and the other elements get keys spread evenly between those of
+     * their neighbours. Only when there is no room left between two keys are the keys of the whole list spread out
+     * again.
+     */
+    static <E> long[] assign(Map<E, Long> savedKeys, List<E> current) {
+        requireAllNonNull(savedKeys, current);
+        long[] keys = new long[current.size()];
+        boolean[] isKept = new boolean[current.size()];
+        long lastKey = Long.MIN_VALUE;
+        for (int position = 0; position < current.size(); position++) {
+            Long savedKey = savedKeys.get(current.get(position));
+            if (savedKey != null && savedKey > lastKey) {
+                isKept[position] = true;
+                keys[position] = savedKey;
+                lastKey = savedKey;
+            }
+        }
+
+        long previousKey = 0;
+        int runStart = 0;
+        for (int position = 0; position <= current.size(); position++) {
+            if (position < current.size() && !isKept[position]) {
+                continue;
+            }
+            int runLength = position - runStart;
+            long nextKey = position < current.size() ? keys[position] : previousKey + KEY_GAP * (runLength + 1);
+            if (nextKey - previousKey <= runLength) {
+                return spread(current.size());
+            }
+            long step = (nextKey - previousKey) / (runLength + 1);
+            for (int i = 0; i < runLength; i++) {
+                keys[runStart + i] = previousKey + step * (i + 1);
+            }
+            if (position < current.size()) {
+                previousKey = nextKey;
+            }
+            runStart = position + 1;
+        }
+        return keys;
+    }
+
+    private static long[] spread(int count) {
+        long[] keys = new long[count];
+        for (int position = 0; position < count; position++) {
+            keys[position] = KEY_GAP * (position + 1);
+        }
+        return keys;
+    }
+}
@@ -24,6 +24,7 @@ import seedu.address.model.tag.Tag;
  */
 public class StorageUtil {
     private static final String MISSING_FIELD_MESSAGE_FORMAT = "%s's %s field is missing!";
+    private static final DateTimeFormatter TRIP_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
     private final String modelClassname;
 
     public StorageUtil(String modelClassname) {
@@ -78,7 +79,7 @@ public class StorageUtil {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(name);
+        return Name.of(name);
     }
 
     /**
@@ -96,7 +97,7 @@ public class StorageUtil {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(phone);
+        return Phone.of(phone);
     }
 
     /**
@@ -114,7 +115,7 @@ public class StorageUtil {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(address);
+        return Address.of(address);
     }
 
     /**
@@ -138,7 +139,7 @@ public class StorageUtil {
             throw new IllegalValueException(TripDay.MESSAGE_CONSTRAINTS);
         }
 
-        return new TripDay(day);
+        return TripDay.of(day);
     }
 
     /**
@@ -153,16 +154,15 @@ public class StorageUtil {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, modelClassname,
                     TripTime.class.getSimpleName()));
         }
-        final DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
         final LocalTime parsedTimeObject;
 
         try {
-            parsedTimeObject = LocalTime.parse(tripTime, timeFormat);
+            parsedTimeObject = LocalTime.parse(tripTime, TRIP_TIME_FORMAT);
         } catch (DateTimeParseException e) {
             throw new IllegalValueException(TripTime.MESSAGE_CONSTRAINTS);
         }
 
-        return new TripTime(parsedTimeObject);
+        return TripTime.of(parsedTimeObject);
     }
 
     /**
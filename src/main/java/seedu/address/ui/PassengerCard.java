@@ -63,7 +63,7 @@ public class PassengerCard extends UiPart<Region> {
         cardFields.add(new LabelWithIcon(ICON_PATH_TIME,
                 passenger.getTripDay() + " " + passenger.getTripTime()).getRoot());
         passenger.getPrice()
-                .filter(price -> price.value != 0)
+                .filter(price -> price.getCents() != 0)
                 .ifPresent(
                     presentPrice ->
                             cardFields.add(new LabelWithIcon(ICON_PATH_PRICE, presentPrice.toString()).getRoot()));
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -24,14 +25,17 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/gme_icon.png";
 
     private Logic logic;
+    private Optional<String> startupWarning;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which shows {@code startupWarning}, if any, once the
+     * main window is shown, e.g. to tell the user that the data file was recovered from a backup.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, Optional<String> startupWarning) {
         super();
         this.logic = logic;
+        this.startupWarning = startupWarning;
     }
 
     @Override
@@ -47,6 +51,8 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            startupWarning.ifPresent(warning -> showAlertDialogAndWait(AlertType.WARNING, "Data file recovered",
+                    "The address book was recovered from a backup", warning));
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,44 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_missingParentDirectories_success() throws Exception {
+        Path file = testFolder.resolve("a").resolve("b").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "a longer old content");
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_writerThrows_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("half of the new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Simulated failure");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1L, files.count());
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerClosesStream_success() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> {
+            out.write("closed".getBytes(StandardCharsets.UTF_8));
+            out.close();
+        });
+        assertEquals("closed", FileUtil.readFromFile(file));
+    }
+
 }
@@ -0,0 +1,40 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakIdentityCacheTest {
+
+    @Test
+    public void get_sameKey_returnsCachedValue() {
+        WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>();
+        String key = new String("Alice Pauline");
+        cache.put(key, 1);
+        assertEquals(Optional.of(1), cache.get(key));
+        assertEquals(1, cache.size());
+
+        cache.put(key, 2);
+        assertEquals(Optional.of(2), cache.get(key));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_equalButDifferentKey_returnsEmpty() {
+        WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>();
+        cache.put(new String("Alice Pauline"), 1);
+        assertFalse(cache.get(new String("Alice Pauline")).isPresent());
+    }
+
+    @Test
+    public void getAndPut_nullArguments_throwsNullPointerException() {
+        WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>();
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+        assertThrows(NullPointerException.class, () -> cache.put("Alice Pauline", null));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.TripDay;
+import seedu.address.model.TripTime;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.passenger.Address;
+import seedu.address.model.tag.Tag;
+
+public class WeakInternerTest {
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        WeakInterner<String, Name> interner = new WeakInterner<>(Name::new, name -> name.fullName);
+        Name first = interner.intern(new String("Alice Pauline"));
+        Name second = interner.intern(new String("Alice Pauline"));
+        assertSame(first, second);
+        assertEquals(1, interner.size());
+
+        assertNotSame(first, interner.intern("Benson Meier"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_invalidKey_throwsAndInternsNothing() {
+        WeakInterner<String, Name> interner = new WeakInterner<>(Name::new, name -> name.fullName);
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("Alice!"));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        WeakInterner<String, Name> interner = new WeakInterner<>(Name::new, name -> name.fullName);
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalKeysInParallel_returnsSameInstance() {
+        WeakInterner<String, Name> interner = new WeakInterner<>(Name::new, name -> name.fullName);
+        List<Name> names = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> interner.intern(new String("Passenger " + i % 10)))
+                .collect(Collectors.toList());
+        for (Name name : names) {
+            assertSame(interner.intern(name.fullName), name);
+        }
+        assertEquals(10, interner.size());
+    }
+
+    @Test
+    public void of_valueClasses_shareInstances() {
+        assertSame(Name.of("Alice Pauline"), Name.of(new String("Alice Pauline")));
+        assertSame(Phone.of("94351253"), Phone.of(new String("94351253")));
+        assertSame(Address.of("wall street"), Address.of(new String("wall street")));
+        assertSame(Tag.of("marketing"), Tag.of(new String("marketing")));
+        assertSame(TripDay.of(DayOfWeek.MONDAY), TripDay.of(DayOfWeek.MONDAY));
+        assertSame(TripTime.of(LocalTime.of(8, 30)), TripTime.of(LocalTime.of(8, 30)));
+        assertSame(TripTime.of(LocalTime.of(8, 30)), TripTime.ofMinuteOfDay(8 * 60 + 30));
+    }
+}
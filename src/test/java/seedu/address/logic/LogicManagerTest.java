@@ -2,6 +2,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PASSENGER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -14,6 +15,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPassengers.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -71,6 +74,16 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_registeredAlias_success() throws Exception {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        addressBookParser.registerAlias("ls", ListCommand.COMMAND_WORD);
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), addressBookParser);
+        assertCommandSuccess("ls", ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -91,6 +104,31 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_addressBookUnchanged_saveSkipped() throws Exception {
+        SaveCountingStub addressBookStorage = new SaveCountingStub(temporaryFolder.resolve("countedAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countedUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, addressBookStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + ADDRESS_DESC_AMY + TRIPDAY_DESC_FRIDAY + TRIPTIME_DESC_EVENING + PRICE_DESC_AMY);
+        assertEquals(1, addressBookStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_firstCommandUnchanged_nothingWritten() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPassengerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPassengerList().remove(0));
@@ -167,4 +205,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class SaveCountingStub extends JsonAddressBookStorage {
+        private int saveCount;
+
+        private SaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
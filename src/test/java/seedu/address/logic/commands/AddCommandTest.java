@@ -10,6 +10,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TripDay;
 import seedu.address.model.TripTime;
+import seedu.address.model.index.PriceStatistics;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.Pool;
@@ -135,6 +137,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPassenger(Passenger passenger) {
             throw new AssertionError("This method should not be called.");
@@ -160,6 +167,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Pool> getPoolsDrivenBy(Person driver, TripDay tripDay, TripTime tripTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Passenger> getPassengersByTripTime(TripDay tripDay, TripTime from, TripTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Passenger> getPassengersWithHighestPrices(int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PriceStatistics getPriceStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePassenger(Passenger passenger) {
             throw new AssertionError("This method should not be called.");
@@ -29,16 +29,22 @@ import static seedu.address.testutil.TypicalPassengers.JACKSON;
 import static seedu.address.testutil.TypicalPassengers.KINGSLEY;
 import static seedu.address.testutil.TypicalPassengers.getTypicalAddressBookPassengers;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.StringJoiner;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.TripDay;
 import seedu.address.model.TripDayContainsKeywordsPredicate;
+import seedu.address.model.TripTime;
 import seedu.address.model.TripTimeContainsKeywordsPredicate;
+import seedu.address.model.TripTimeRangePredicate;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
@@ -170,6 +176,17 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(FIONA, HILARY, IRENE, JACKSON, KINGSLEY), model.getFilteredPassengerList());
     }
 
+    @Test
+    public void execute_tripTimeRange_passengersWithinRangeFound() {
+        String expectedMessage = String.format(MESSAGE_PASSENGER_LISTED_OVERVIEW, 5);
+        TripTimeRangePredicate predicate = new TripTimeRangePredicate(Optional.of(new TripDay(DayOfWeek.MONDAY)),
+                new TripTime(LocalTime.of(18, 0)), new TripTime(LocalTime.of(20, 0)));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPassengerList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, HILARY, IRENE, JACKSON, KINGSLEY), model.getFilteredPassengerList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.testutil.PassengerBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for StatsCommand.
+ */
+public class StatsCommandTest {
+
+    private static final Passenger CHEAP = new PassengerBuilder().withName("Cheap").withPrice(2.5).build();
+    private static final Passenger MIDDLE = new PassengerBuilder().withName("Middle").withPrice(4.0).build();
+    private static final Passenger DEAR = new PassengerBuilder().withName("Dear").withPrice(12.0).build();
+    private static final String EXPECTED_STATISTICS = "3 price(s) stated; total: 18.5; lowest: 2.5; highest: 12.0;"
+            + " median: 4.0; mean: 6.16";
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        for (Passenger passenger : Arrays.asList(MIDDLE, ALICE, DEAR, CHEAP)) {
+            addressBook.addPassenger(passenger);
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(Optional.empty());
+        StatsCommand topTwoCommand = new StatsCommand(Optional.of(2));
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same values -> returns true
+        assertTrue(topTwoCommand.equals(new StatsCommand(Optional.of(2))));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different limit -> returns false
+        assertFalse(statsCommand.equals(topTwoCommand));
+    }
+
+    @Test
+    public void execute_noLimit_showsStatisticsOnly() {
+        assertCommandSuccess(new StatsCommand(Optional.empty()), model,
+                String.format(StatsCommand.MESSAGE_SUCCESS, EXPECTED_STATISTICS), expectedModel);
+    }
+
+    @Test
+    public void execute_limit_listsPassengersWithHighestPrices() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, EXPECTED_STATISTICS)
+                + String.format(StatsCommand.MESSAGE_HIGHEST_PRICES_LISTED, 2)
+                + String.format(StatsCommand.MESSAGE_RANKED_PASSENGER, 1, DEAR.getName(), "12.0")
+                + String.format(StatsCommand.MESSAGE_RANKED_PASSENGER, 2, MIDDLE.getName(), "4.0");
+        expectedModel.updateFilteredPassengerList(passenger -> passenger.equals(MIDDLE) || passenger.equals(DEAR));
+        assertCommandSuccess(new StatsCommand(Optional.of(2)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_listedPassengerEdited_editedPassengerStillListed() {
+        new StatsCommand(Optional.of(2)).execute(model);
+        Passenger editedDear = new PassengerBuilder(DEAR).withPhone("99998888").build();
+        model.setPassenger(DEAR, editedDear);
+
+        assertEquals(Arrays.asList(MIDDLE, editedDear), model.getFilteredPassengerList());
+    }
+
+    @Test
+    public void execute_limitAboveCount_listsAllPassengersWithPrices() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, EXPECTED_STATISTICS)
+                + String.format(StatsCommand.MESSAGE_HIGHEST_PRICES_LISTED, 3)
+                + String.format(StatsCommand.MESSAGE_RANKED_PASSENGER, 1, DEAR.getName(), "12.0")
+                + String.format(StatsCommand.MESSAGE_RANKED_PASSENGER, 2, MIDDLE.getName(), "4.0")
+                + String.format(StatsCommand.MESSAGE_RANKED_PASSENGER, 3, CHEAP.getName(), "2.5");
+        expectedModel.updateFilteredPassengerList(passenger -> passenger.getPrice().isPresent());
+        assertCommandSuccess(new StatsCommand(Optional.of(10)), model, expectedMessage, expectedModel);
+    }
+}
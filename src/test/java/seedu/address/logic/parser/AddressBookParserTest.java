@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PoolCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnpoolCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.TripDay;
@@ -124,6 +126,12 @@ public class AddressBookParserTest {
         assertEquals(new UnpoolCommand(INDEX_FIRST), command);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertEquals(new StatsCommand(Optional.of(3)), parser.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -134,4 +142,42 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_surroundingWhitespace_success() throws Exception {
+        assertEquals(new UnpoolCommand(INDEX_FIRST), parser.parseCommand(
+                " \t" + UnpoolCommand.COMMAND_WORD + "\t" + INDEX_FIRST.getOneBased() + " \n"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(" \t\n "));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(UnpoolCommand.COMMAND_WORD + " 1\n2"));
+    }
+
+    @Test
+    public void registerAlias_registeredCommandWord_parsedAsCommand() throws Exception {
+        parser.registerAlias("rm", DeleteCommand.COMMAND_WORD);
+        assertEquals(new DeleteCommand(Collections.singletonList(INDEX_FIRST)),
+                parser.parseCommand("rm " + INDEX_FIRST.getOneBased()));
+
+        // aliases are only registered on their parser
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> new AddressBookParser().parseCommand("rm 1"));
+    }
+
+    @Test
+    public void registerAlias_invalidWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.registerAlias("rm", "remove"));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerAlias("", DeleteCommand.COMMAND_WORD));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerAlias("r m", DeleteCommand.COMMAND_WORD));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerAlias(ListCommand.COMMAND_WORD,
+                DeleteCommand.COMMAND_WORD));
+        assertThrows(NullPointerException.class, () -> parser.registerAlias(null, DeleteCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void registerCommand_newCommandWord_parsedWithParser() throws Exception {
+        parser.registerCommand("bye", arguments -> new ExitCommand());
+        assertTrue(parser.parseCommand("bye now") instanceof ExitCommand);
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand("bye", arguments
+            -> new ExitCommand()));
+    }
 }
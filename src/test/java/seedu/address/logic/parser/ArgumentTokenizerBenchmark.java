@@ -0,0 +1,125 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMMUTER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRIPDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRIPTIME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compares the time taken to tokenize long {@code pool} commands with many {@code c/} indexes by
+ * {@link ArgumentTokenizer}, and by the earlier tokenizer that searched the arguments string once per prefix.
+ * Run with {@code gradlew benchmarkTokenizer}, optionally followed by
+ * {@code --args="<number of c/ indexes> <number of runs>"}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int DEFAULT_COMMUTER_COUNT = 200;
+    private static final int DEFAULT_RUN_COUNT = 10;
+    private static final int WARM_UP_RUN_COUNT = 5;
+    private static final int TOKENIZES_PER_RUN = 2_000;
+    private static final Prefix[] POOL_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_TRIPDAY, PREFIX_TRIPTIME,
+        PREFIX_COMMUTER, PREFIX_TAG};
+    private static final PrefixTrie POOL_PREFIX_TRIE = new PrefixTrie(POOL_PREFIXES);
+
+    /**
+     * Runs the benchmark and prints the median time taken by each tokenizer per command.
+     */
+    public static void main(String[] args) {
+        int commuterCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COMMUTER_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        String argsString = createPoolArguments(commuterCount);
+        checkSameResult(argsString);
+
+        System.out.println(String.format("pool command with %d c/ indexes, %d characters, median of %d runs",
+                commuterCount, argsString.length(), runCount));
+        run("per prefix", argsString, runCount, arguments -> IndexOfTokenizer.tokenize(arguments, POOL_PREFIXES));
+        run("trie", argsString, runCount, arguments -> ArgumentTokenizer.tokenize(arguments, POOL_PREFIX_TRIE));
+    }
+
+    private static void run(String tokenizerName, String argsString, int runCount,
+                            Function<String, ArgumentMultimap> tokenizer) {
+        long[] nanos = new long[runCount];
+        int valueCount = 0;
+        for (int i = -WARM_UP_RUN_COUNT; i < runCount; i++) {
+            long start = System.nanoTime();
+            for (int j = 0; j < TOKENIZES_PER_RUN; j++) {
+                valueCount += tokenizer.apply(argsString).getAllValues(PREFIX_COMMUTER).size();
+            }
+            long end = System.nanoTime();
+            if (i >= 0) {
+                nanos[i] = end - start;
+            }
+        }
+
+        Arrays.sort(nanos);
+        double microsPerCommand = nanos[nanos.length / 2] / 1_000.0 / TOKENIZES_PER_RUN;
+        System.out.println(String.format("%-10s %8.2f us per command (%d values)", tokenizerName, microsPerCommand,
+                valueCount));
+    }
+
+    private static void checkSameResult(String argsString) {
+        ArgumentMultimap expected = IndexOfTokenizer.tokenize(argsString, POOL_PREFIXES);
+        ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString, POOL_PREFIX_TRIE);
+        if (!expected.getPreamble().equals(actual.getPreamble())) {
+            throw new AssertionError("Tokenizers found different preambles");
+        }
+        for (Prefix prefix : POOL_PREFIXES) {
+            if (!expected.getAllValues(prefix).equals(actual.getAllValues(prefix))) {
+                throw new AssertionError("Tokenizers found different values for " + prefix);
+            }
+        }
+    }
+
+    /**
+     * Returns the arguments of a {@code pool} command that pools the first {@code commuterCount} passengers.
+     */
+    private static String createPoolArguments(int commuterCount) {
+        StringBuilder argsString = new StringBuilder(" n/Alan Poe p/94123456 d/MONDAY t/1930");
+        for (int i = 1; i <= commuterCount; i++) {
+            argsString.append(" c/").append(i);
+        }
+        return argsString.append(" tag/SUV tag/female").toString();
+    }
+
+    /**
+     * The earlier tokenizer, which searches the arguments string for each prefix in turn, then sorts the positions
+     * found and extracts the value after each of them.
+     */
+    private static class IndexOfTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<int[]> positions = new ArrayList<>();
+            for (int i = 0; i < prefixes.length; i++) {
+                int position = findPrefixPosition(argsString, prefixes[i].getPrefix(), 0);
+                while (position != -1) {
+                    positions.add(new int[] {i, position});
+                    position = findPrefixPosition(argsString, prefixes[i].getPrefix(), position);
+                }
+            }
+            positions.sort((position1, position2) -> position1[1] - position2[1]);
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = new Prefix("");
+            int valueStartPos = 0;
+            for (int[] position : positions) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStartPos, position[1]).trim());
+                currentPrefix = prefixes[position[0]];
+                valueStartPos = position[1] + currentPrefix.getPrefix().length();
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
+            return argMultimap;
+        }
+
+        private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+            int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+            return prefixIndex == -1 ? -1 : prefixIndex + 1;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,35 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixTrie_sameAsPrefixes() {
+        String argsString = "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t";
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(argsString, new PrefixTrie(pSlash, dashT, hatQ));
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "another dashT value", "");
+        assertArgumentPresent(argMultimap, hatQ, "", "");
+    }
+
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix pr = new Prefix("pr/");
+        Prefix p = new Prefix("p");
+        String argsString = "  Preamble pr/ 1.5 p/ 9123 pr/2 p";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pr, p);
+        assertPreamblePresent(argMultimap, "Preamble");
+        assertArgumentPresent(argMultimap, pr, "1.5", "2");
+        assertArgumentPresent(argMultimap, pSlash, "9123");
+        assertArgumentPresent(argMultimap, p, "");
+    }
+
+    @Test
+    public void prefixTrie_emptyPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixTrie(pSlash, new Prefix("")));
+        assertThrows(NullPointerException.class, () -> new PrefixTrie(pSlash, null));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -26,22 +26,34 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TRIPDAY_BOB_LOW
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TRIPTIME_STR_BOB;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRIPDAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRIPTIME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.TripDay;
 import seedu.address.model.TripDayContainsKeywordsPredicate;
+import seedu.address.model.TripTime;
 import seedu.address.model.TripTimeContainsKeywordsPredicate;
+import seedu.address.model.TripTimeRangePredicate;
 import seedu.address.model.person.AttributeContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.passenger.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.passenger.Price;
 import seedu.address.model.person.passenger.PriceIsGreaterThanAmountPredicate;
+import seedu.address.model.person.passenger.PriceRangePredicate;
 import seedu.address.model.tag.TagContainsKeywordsPredicate;
 
 /*
@@ -181,6 +193,13 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_ALL + VALID_TAG_IT, expectedAllCommand);
     }
 
+    @Test
+    public void parse_multipleTagsInOneKeyword_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new TagContainsKeywordsPredicate(
+                Arrays.asList("[female] [it]", "[sales]")));
+        assertParseSuccess(parser, " " + PREFIX_TAG + "female   IT " + PREFIX_TAG + "sales", expectedFindCommand);
+    }
+
     @Test
     public void parse_validDayArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -205,4 +224,55 @@ public class FindCommandParserTest {
 
         assertParseSuccess(parser, TRIPTIME_DESC_BOB, expectedFindCommand);
     }
+
+    @Test
+    public void parse_validTripTimeRangeArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new TripTimeRangePredicate(Optional.empty(),
+                new TripTime(LocalTime.of(8, 0)), new TripTime(LocalTime.of(9, 0))));
+        assertParseSuccess(parser, " " + PREFIX_TRIPTIME + "0800-0900", expectedFindCommand);
+
+        // with trip day
+        expectedFindCommand = new FindCommand(new TripTimeRangePredicate(
+                Optional.of(new TripDay(DayOfWeek.MONDAY)),
+                new TripTime(LocalTime.of(8, 0)), new TripTime(LocalTime.of(9, 0))));
+        assertParseSuccess(parser, " " + PREFIX_TRIPDAY + "monday " + PREFIX_TRIPTIME + " 0800 - 0900 ",
+                expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTripTimeRangeArgs_throwsParseException() {
+        // start after end
+        assertParseFailure(parser, " " + PREFIX_TRIPTIME + "0900-0800", TripTimeRangePredicate.MESSAGE_CONSTRAINTS);
+
+        // invalid end of range
+        assertParseFailure(parser, " " + PREFIX_TRIPTIME + "0800-2500", TripTime.MESSAGE_CONSTRAINTS);
+
+        // too many ends
+        assertParseFailure(parser, " " + PREFIX_TRIPTIME + "0800-0900-1000",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // other prefixes present
+        assertParseFailure(parser, NAME_DESC_AMY + " " + PREFIX_TRIPTIME + "0800-0900",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validPriceRangeArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PriceRangePredicate(new Price(5), new Price(10.5)));
+        assertParseSuccess(parser, " " + PREFIX_PRICE + "5-10.5", expectedFindCommand);
+        assertParseSuccess(parser, " " + PREFIX_PRICE + " 5 - 10.5 ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidPriceRangeArgs_throwsParseException() {
+        // start above end
+        assertParseFailure(parser, " " + PREFIX_PRICE + "10-5", PriceRangePredicate.MESSAGE_CONSTRAINTS);
+
+        // invalid end of range
+        assertParseFailure(parser, " " + PREFIX_PRICE + "5-1000", Price.MESSAGE_CONSTRAINTS);
+
+        // too many ends
+        assertParseFailure(parser, " " + PREFIX_PRICE + "1-5-10",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
@@ -10,6 +10,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY_LOWER_CASE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -20,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.FindPoolCommand;
 import seedu.address.model.person.Name;
 import seedu.address.model.pool.PooledPassengerContainsKeywordsPredicate;
+import seedu.address.model.tag.PoolTagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindPoolCommandParserTest {
     private FindPoolCommandParser parser = new FindPoolCommandParser();
@@ -92,4 +95,18 @@ public class FindPoolCommandParserTest {
                         Arrays.asList(VALID_NAME_AMY_LOWER_CASE)));
         assertParseSuccess(parser, NAME_DESC_AMY, expectedFindPoolCommand);
     }
+
+    @Test
+    public void parse_validTagArgs_returnsFindPoolCommand() {
+        FindPoolCommand expectedFindPoolCommand =
+                new FindPoolCommand(new PoolTagContainsKeywordsPredicate(Arrays.asList("[female] [it]", "[sales]")));
+        assertParseSuccess(parser, " " + PREFIX_TAG + "Female  IT " + PREFIX_TAG + "sales", expectedFindPoolCommand);
+    }
+
+    @Test
+    public void parse_invalidTagArgs_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_TAG + "female it!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_TAG + "female " + PREFIX_NAME + "alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPoolCommand.MESSAGE_USAGE));
+    }
 }
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(Optional.empty()));
+        assertParseSuccess(parser, "   ", new StatsCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_validLimit_returnsStatsCommand() {
+        assertParseSuccess(parser, " 3 ", new StatsCommand(Optional.of(3)));
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
@@ -115,6 +115,31 @@ public class AddressBookTest {
     public void getPassengerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPassengerList().remove(0));
     }
+
+    @Test
+    public void getVersion_modifications_increases() {
+        long version = addressBook.getVersion();
+        addressBook.addPassenger(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPassenger(ALICE, new PassengerBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.addPool(HOMEPOOL);
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_queries_unchanged() {
+        addressBook.addPassenger(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPassenger(ALICE);
+        addressBook.getPriceStatistics();
+        addressBook.getPassengersWithHighestPrices(1);
+        assertEquals(version, addressBook.getVersion());
+    }
     //@@author JoelHo
     @Test
     public void resetData_withDuplicatePool_throwsDuplicatePoolException() {
@@ -8,6 +8,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PASSENGERS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPassengers.ALICE;
 import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPools.HOMEPOOL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -17,7 +18,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.PoolTagContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PassengerBuilder;
+import seedu.address.testutil.TypicalAddressBook;
 
 public class ModelManagerTest {
 
@@ -130,4 +134,27 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void updateFilteredPoolList_indexedPredicateThenPassengerEdited_editedPoolStillShown() {
+        ModelManager model = new ModelManager(TypicalAddressBook.getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredPoolList(new PoolTagContainsKeywordsPredicate(Arrays.asList("[marketing]")));
+        assertEquals(2, model.getFilteredPoolList().size());
+
+        // editing a pooled passenger replaces the pool that contains it
+        model.setPassenger(ALICE, new PassengerBuilder(ALICE).withAddress("Changed Road").build());
+        assertEquals(2, model.getFilteredPoolList().size());
+        assertTrue(model.getFilteredPoolList().stream().anyMatch(pool -> pool.isSamePool(HOMEPOOL)));
+    }
+
+    @Test
+    public void updateFilteredPassengerList_indexedPredicateThenPassengerEdited_editedPassengerStillShown() {
+        ModelManager model = new ModelManager(TypicalAddressBook.getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredPassengerList(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        assertEquals(1, model.getFilteredPassengerList().size());
+
+        model.setPassenger(ALICE, new PassengerBuilder(ALICE).withAddress("Changed Road").build());
+        assertEquals(1, model.getFilteredPassengerList().size());
+        assertEquals("Changed Road", model.getFilteredPassengerList().get(0).getAddress().toString());
+    }
 }
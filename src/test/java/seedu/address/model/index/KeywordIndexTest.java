@@ -0,0 +1,71 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPassengers.CARL;
+import static seedu.address.testutil.TypicalPassengers.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.KeywordIndex.Field;
+import seedu.address.model.person.passenger.UniquePassengerList;
+import seedu.address.testutil.PassengerBuilder;
+
+public class KeywordIndexTest {
+
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+
+    @Test
+    public void getPassengersWithWord_caseInsensitiveWholeWord_returnsMatchingPassengers() {
+        keywordIndex.add(BENSON);
+        keywordIndex.add(DANIEL);
+        keywordIndex.add(CARL);
+        assertEquals(Set.of(BENSON, DANIEL), keywordIndex.getPassengersWithWord(Field.NAME, "MEIER"));
+        assertEquals(Set.of(BENSON), keywordIndex.getPassengersWithWord(Field.PHONE, "98765432"));
+
+        // partial word
+        assertTrue(keywordIndex.getPassengersWithWord(Field.NAME, "mei").isEmpty());
+
+        // word in another field
+        assertTrue(keywordIndex.getPassengersWithWord(Field.ADDRESS, "meier").isEmpty());
+    }
+
+    @Test
+    public void getPassengersWithPhrase_phraseAcrossWords_returnsCandidates() {
+        keywordIndex.add(ALICE);
+        keywordIndex.add(BENSON);
+        keywordIndex.add(CARL);
+        assertEquals(Set.of(ALICE), keywordIndex.getPassengersWithPhrase(Field.NAME, "ice paul"));
+        assertEquals(Set.of(CARL), keywordIndex.getPassengersWithPhrase(Field.ADDRESS, "wall str"));
+        assertTrue(keywordIndex.getPassengersWithPhrase(Field.ADDRESS, "orchard").isEmpty());
+    }
+
+    @Test
+    public void remove_passenger_removesAllWords() {
+        keywordIndex.add(BENSON);
+        keywordIndex.add(DANIEL);
+        keywordIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), keywordIndex.getPassengersWithWord(Field.NAME, "meier"));
+        assertTrue(keywordIndex.getPassengersWithWord(Field.NAME, "benson").isEmpty());
+        assertTrue(keywordIndex.getPassengersWithPhrase(Field.NAME, "bens").isEmpty());
+    }
+
+    @Test
+    public void uniquePassengerList_editPassenger_updatesWords() {
+        UniquePassengerList passengers = new UniquePassengerList();
+        passengers.addIndex(keywordIndex);
+        passengers.add(ALICE);
+        passengers.setPassenger(ALICE, new PassengerBuilder(ALICE).withAddress("orchard road").build());
+        assertTrue(keywordIndex.getPassengersWithWord(Field.ADDRESS, "jurong").isEmpty());
+        assertEquals(1, keywordIndex.getPassengersWithWord(Field.ADDRESS, "orchard").size());
+
+        passengers.setPassengers(List.of(CARL));
+        assertTrue(keywordIndex.getPassengersWithWord(Field.NAME, "alice").isEmpty());
+        assertEquals(Set.of(CARL), keywordIndex.getPassengersWithWord(Field.NAME, "carl"));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.testutil.PassengerBuilder;
+
+public class PriceIndexTest {
+
+    private static final Passenger CHEAP = new PassengerBuilder().withName("Cheap").withPrice(1.5).build();
+    private static final Passenger MIDDLE = new PassengerBuilder().withName("Middle").withPrice(5.0).build();
+    private static final Passenger OTHER_MIDDLE =
+            new PassengerBuilder().withName("Other Middle").withPrice(5.0).build();
+    private static final Passenger DEAR = new PassengerBuilder().withName("Dear").withPrice(10.25).build();
+    private static final Passenger NO_PRICE = new PassengerBuilder().withName("No Price").build();
+
+    private final PriceIndex priceIndex = new PriceIndex();
+
+    @Test
+    public void getStatistics_emptyIndex_returnsZeroes() {
+        assertEquals(new PriceStatistics(0, 0, 0, 0, 0), priceIndex.getStatistics());
+    }
+
+    @Test
+    public void getStatistics_oddCount_returnsMiddlePrice() {
+        priceIndex.add(DEAR);
+        priceIndex.add(CHEAP);
+        priceIndex.add(MIDDLE);
+        priceIndex.add(NO_PRICE);
+        assertEquals(new PriceStatistics(3, 1675, 150, 1025, 500), priceIndex.getStatistics());
+        assertEquals(558, priceIndex.getStatistics().getMeanCents());
+    }
+
+    @Test
+    public void getStatistics_evenCount_returnsMeanOfMiddlePrices() {
+        priceIndex.add(DEAR);
+        priceIndex.add(CHEAP);
+        priceIndex.add(MIDDLE);
+        priceIndex.add(new PassengerBuilder().withName("Dearest").withPrice(999.99).build());
+        assertEquals(763, priceIndex.getStatistics().getMedianCents());
+        assertEquals(99999, priceIndex.getStatistics().getMaxCents());
+    }
+
+    @Test
+    public void getPassengersBetween_rangeBoundaries_inclusive() {
+        priceIndex.add(DEAR);
+        priceIndex.add(MIDDLE);
+        priceIndex.add(CHEAP);
+        priceIndex.add(OTHER_MIDDLE);
+        assertEquals(Arrays.asList(CHEAP, MIDDLE, OTHER_MIDDLE), priceIndex.getPassengersBetween(150, 500));
+        assertEquals(Arrays.asList(MIDDLE, OTHER_MIDDLE, DEAR), priceIndex.getPassengersBetween(151, 2000));
+        assertTrue(priceIndex.getPassengersBetween(501, 1024).isEmpty());
+        assertTrue(priceIndex.getPassengersBetween(500, 150).isEmpty());
+    }
+
+    @Test
+    public void getPassengersWithHighestPrices() {
+        priceIndex.add(CHEAP);
+        priceIndex.add(MIDDLE);
+        priceIndex.add(DEAR);
+        priceIndex.add(OTHER_MIDDLE);
+        assertEquals(Arrays.asList(DEAR, MIDDLE), priceIndex.getPassengersWithHighestPrices(2));
+        assertEquals(Arrays.asList(DEAR, MIDDLE, OTHER_MIDDLE, CHEAP), priceIndex.getPassengersWithHighestPrices(10));
+        assertEquals(Collections.emptyList(), priceIndex.getPassengersWithHighestPrices(0));
+        assertThrows(IllegalArgumentException.class, () -> priceIndex.getPassengersWithHighestPrices(-1));
+    }
+
+    @Test
+    public void remove_passengerWithSamePrice_removesOnlyThatPassenger() {
+        priceIndex.add(MIDDLE);
+        priceIndex.add(OTHER_MIDDLE);
+        priceIndex.add(CHEAP);
+        priceIndex.remove(MIDDLE);
+        priceIndex.remove(NO_PRICE);
+        priceIndex.remove(ALICE);
+        assertEquals(Arrays.asList(CHEAP, OTHER_MIDDLE), priceIndex.getPassengersBetween(0, 1000));
+        assertEquals(new PriceStatistics(2, 650, 150, 500, 325), priceIndex.getStatistics());
+    }
+
+    @Test
+    public void clear_removesAllPassengers() {
+        priceIndex.add(MIDDLE);
+        priceIndex.add(DEAR);
+        priceIndex.clear();
+        assertEquals(new PriceStatistics(0, 0, 0, 0, 0), priceIndex.getStatistics());
+        priceIndex.add(CHEAP);
+        assertEquals(new PriceStatistics(1, 150, 150, 150, 150), priceIndex.getStatistics());
+    }
+}
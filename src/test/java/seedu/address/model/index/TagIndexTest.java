@@ -0,0 +1,77 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPassengers.CARL;
+import static seedu.address.testutil.TypicalPassengers.DANIEL;
+import static seedu.address.testutil.TypicalPools.HOMEPOOL;
+import static seedu.address.testutil.TypicalPools.OFFICEPOOL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.UniquePoolList;
+import seedu.address.testutil.PassengerBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex<Passenger> tagIndex = new TagIndex<>(Passenger::getTags);
+
+    @Test
+    public void getWithAllTagsOfAnyGroup_singleTagGroups_returnsUnion() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.add(CARL);
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(tagIndex.getWithAllTagsOfAnyGroup(
+                List.of(List.of("[MARKETING]")))));
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(tagIndex.getWithAllTagsOfAnyGroup(
+                List.of(List.of("[sales]"), List.of("[marketing]")))));
+    }
+
+    @Test
+    public void getWithAllTagsOfAnyGroup_multipleTagGroup_returnsIntersection() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        assertEquals(List.of(BENSON), tagIndex.getWithAllTagsOfAnyGroup(
+                List.of(List.of("[marketing]", "[sales]"))));
+
+        // unknown tag
+        assertTrue(tagIndex.getWithAllTagsOfAnyGroup(List.of(List.of("[marketing]", "[finance]"))).isEmpty());
+
+        // empty group
+        assertTrue(tagIndex.getWithAllTagsOfAnyGroup(List.of(List.of())).isEmpty());
+    }
+
+    @Test
+    public void remove_element_reusesOrdinal() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(ALICE);
+        assertEquals(List.of(BENSON), tagIndex.getWithAllTagsOfAnyGroup(List.of(List.of("[marketing]"))));
+
+        Passenger financeDaniel = new PassengerBuilder(DANIEL).withTags("finance").build();
+        tagIndex.add(financeDaniel);
+        assertEquals(List.of(financeDaniel), tagIndex.getWithAllTagsOfAnyGroup(List.of(List.of("[finance]"))));
+        assertEquals(List.of(BENSON), tagIndex.getWithAllTagsOfAnyGroup(List.of(List.of("[marketing]"))));
+    }
+
+    @Test
+    public void uniquePoolList_mutations_keepIndexInSync() {
+        UniquePoolList pools = new UniquePoolList();
+        pools.add(HOMEPOOL);
+        pools.add(OFFICEPOOL);
+        assertEquals(List.of(OFFICEPOOL), pools.getPoolsWithAllTagsOfAnyGroup(
+                List.of(List.of("[sales]", "[marketing]"))));
+
+        pools.remove(OFFICEPOOL);
+        assertEquals(List.of(HOMEPOOL), pools.getPoolsWithAllTagsOfAnyGroup(List.of(List.of("[marketing]"))));
+
+        pools.setPools(List.of(OFFICEPOOL));
+        assertEquals(List.of(OFFICEPOOL), pools.getPoolsWithAllTagsOfAnyGroup(List.of(List.of("[marketing]"))));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPassengers.CARL;
+import static seedu.address.testutil.TypicalPassengers.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.KeywordIndex.Field;
+import seedu.address.model.person.passenger.UniquePassengerList;
+import seedu.address.testutil.PassengerBuilder;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex(Field.NAME, Field.ADDRESS);
+
+    @Test
+    public void isIndexed() {
+        assertTrue(trigramIndex.isIndexed(Field.NAME));
+        assertTrue(trigramIndex.isIndexed(Field.ADDRESS));
+        assertFalse(trigramIndex.isIndexed(Field.PHONE));
+    }
+
+    @Test
+    public void getPassengersWithPhrase_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trigramIndex.getPassengersWithPhrase(Field.PHONE, "abc"));
+        assertThrows(IllegalArgumentException.class, () -> trigramIndex.getPassengersWithPhrase(Field.NAME, "ab"));
+    }
+
+    @Test
+    public void getPassengersWithPhrase_substring_returnsCandidates() {
+        trigramIndex.add(ALICE);
+        trigramIndex.add(BENSON);
+        trigramIndex.add(DANIEL);
+        assertEquals(Set.of(BENSON, DANIEL), trigramIndex.getPassengersWithPhrase(Field.NAME, "MEIER"));
+        assertEquals(Set.of(ALICE), trigramIndex.getPassengersWithPhrase(Field.NAME, "ice paul"));
+        assertEquals(Set.of(ALICE), trigramIndex.getPassengersWithPhrase(Field.ADDRESS, "jurong w"));
+        assertTrue(trigramIndex.getPassengersWithPhrase(Field.NAME, "carl").isEmpty());
+    }
+
+    @Test
+    public void uniquePassengerList_mutations_keepIndexInSync() {
+        UniquePassengerList passengers = new UniquePassengerList();
+        passengers.addIndex(trigramIndex);
+        passengers.add(BENSON);
+        passengers.add(DANIEL);
+        passengers.remove(BENSON);
+        assertEquals(Set.of(DANIEL), trigramIndex.getPassengersWithPhrase(Field.NAME, "meier"));
+
+        passengers.setPassenger(DANIEL, new PassengerBuilder(DANIEL).withAddress("orchard road").build());
+        assertTrue(trigramIndex.getPassengersWithPhrase(Field.ADDRESS, "street").isEmpty());
+        assertEquals(1, trigramIndex.getPassengersWithPhrase(Field.ADDRESS, "chard").size());
+
+        passengers.setPassengers(List.of(CARL));
+        assertTrue(trigramIndex.getPassengersWithPhrase(Field.NAME, "meier").isEmpty());
+        assertEquals(Set.of(CARL), trigramIndex.getPassengersWithPhrase(Field.ADDRESS, "wall"));
+    }
+}
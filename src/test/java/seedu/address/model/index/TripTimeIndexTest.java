@@ -0,0 +1,95 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.DANIEL;
+import static seedu.address.testutil.TypicalPassengers.ELLE;
+import static seedu.address.testutil.TypicalPassengers.FIONA;
+import static seedu.address.testutil.TypicalPassengers.HILARY;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.TripDay;
+import seedu.address.model.TripTime;
+import seedu.address.model.person.passenger.UniquePassengerList;
+import seedu.address.testutil.PassengerBuilder;
+
+public class TripTimeIndexTest {
+
+    private static final TripDay MONDAY = new TripDay(DayOfWeek.MONDAY);
+    private static final TripTime START_OF_DAY = new TripTime(LocalTime.MIN);
+    private static final TripTime END_OF_DAY = new TripTime(LocalTime.of(23, 59));
+
+    private final TripTimeIndex tripTimeIndex = new TripTimeIndex();
+
+    @Test
+    public void getPassengersBetween_emptyIndex_returnsEmptyList() {
+        assertTrue(tripTimeIndex.getPassengersBetween(MONDAY, START_OF_DAY, END_OF_DAY).isEmpty());
+    }
+
+    @Test
+    public void getPassengersBetween_passengersAddedOutOfOrder_returnsSortedByTripTime() {
+        tripTimeIndex.add(ELLE);
+        tripTimeIndex.add(FIONA);
+        tripTimeIndex.add(ALICE);
+        tripTimeIndex.add(HILARY);
+        tripTimeIndex.add(DANIEL);
+        assertEquals(Arrays.asList(FIONA, DANIEL, HILARY, ELLE),
+                tripTimeIndex.getPassengersBetween(MONDAY, START_OF_DAY, END_OF_DAY));
+    }
+
+    @Test
+    public void getPassengersBetween_rangeBoundaries_inclusive() {
+        tripTimeIndex.add(FIONA);
+        tripTimeIndex.add(DANIEL);
+        tripTimeIndex.add(HILARY);
+        assertEquals(Arrays.asList(DANIEL, HILARY), tripTimeIndex.getPassengersBetween(MONDAY,
+                DANIEL.getTripTime(), HILARY.getTripTime()));
+        assertEquals(Arrays.asList(DANIEL), tripTimeIndex.getPassengersBetween(MONDAY,
+                DANIEL.getTripTime(), DANIEL.getTripTime()));
+        assertTrue(tripTimeIndex.getPassengersBetween(MONDAY, new TripTime(LocalTime.of(18, 1)),
+                new TripTime(LocalTime.of(19, 29))).isEmpty());
+    }
+
+    @Test
+    public void remove_passengerWithSameTripTime_removesOnlyThatPassenger() {
+        tripTimeIndex.add(DANIEL);
+        tripTimeIndex.add(HILARY);
+        tripTimeIndex.add(new PassengerBuilder(HILARY).withName("Hilary Duff").build());
+        tripTimeIndex.remove(HILARY);
+        assertEquals(Arrays.asList(DANIEL, new PassengerBuilder(HILARY).withName("Hilary Duff").build()),
+                tripTimeIndex.getPassengersBetween(MONDAY, START_OF_DAY, END_OF_DAY));
+    }
+
+    @Test
+    public void clear_removesAllPassengers() {
+        tripTimeIndex.add(DANIEL);
+        tripTimeIndex.clear();
+        assertTrue(tripTimeIndex.getPassengersBetween(MONDAY, START_OF_DAY, END_OF_DAY).isEmpty());
+    }
+
+    @Test
+    public void uniquePassengerList_mutations_keepIndexInSync() {
+        UniquePassengerList passengers = new UniquePassengerList();
+        passengers.add(DANIEL);
+        passengers.addIndex(tripTimeIndex);
+        passengers.add(FIONA);
+        passengers.add(ELLE);
+        assertEquals(Arrays.asList(FIONA, DANIEL, ELLE),
+                tripTimeIndex.getPassengersBetween(MONDAY, START_OF_DAY, END_OF_DAY));
+
+        TripTime lateMorning = new TripTime(LocalTime.of(11, 0));
+        passengers.setPassenger(ELLE, new PassengerBuilder(ELLE).withTripTime(lateMorning.toLocalTime()).build());
+        passengers.remove(FIONA);
+        assertEquals(Arrays.asList(new PassengerBuilder(ELLE).withTripTime(lateMorning.toLocalTime()).build(), DANIEL),
+                tripTimeIndex.getPassengersBetween(MONDAY, START_OF_DAY, END_OF_DAY));
+
+        passengers.setPassengers(Arrays.asList(HILARY));
+        assertEquals(Arrays.asList(HILARY), tripTimeIndex.getPassengersBetween(MONDAY, START_OF_DAY, END_OF_DAY));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person.passenger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -17,13 +18,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_IT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_IT_LOWER_CASE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TRIPDAY_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TRIPDAY_BOB_LOWER_CASE;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPassengers.CARL;
+import static seedu.address.testutil.TypicalPassengers.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.AttributeContainsKeywordsPredicate;
 import seedu.address.testutil.PassengerBuilder;
 
@@ -149,4 +156,17 @@ public class AttributeContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PassengerBuilder().withName(VALID_NAME_BOB)
                 .withAddress(VALID_ADDRESS_BOB).withTripDay(VALID_TRIPDAY_BOB).build()));
     }
+
+    @Test
+    public void getCandidates_keywordsInDifferentAttributes_returnsUnion() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPassenger(ALICE);
+        addressBook.addPassenger(BENSON);
+        addressBook.addPassenger(CARL);
+        addressBook.addPassenger(DANIEL);
+
+        AttributeContainsKeywordsPredicate predicate =
+                new AttributeContainsKeywordsPredicate(Arrays.asList("alice", "wall", "sales"));
+        assertEquals(Set.of(ALICE, BENSON, CARL), Set.copyOf(predicate.getCandidates(addressBook)));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person.passenger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -7,13 +8,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY_LOWER_CASE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPassengers.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.testutil.PassengerBuilder;
 
@@ -80,4 +86,18 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PassengerBuilder().withName(VALID_NAME_AMY).withPhone(VALID_PHONE_BOB)
                 .withAddress(VALID_ADDRESS_BOB).build()));
     }
+
+    @Test
+    public void getCandidates_partialKeywords_returnsPassengersContainingKeywords() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPassenger(ALICE);
+        addressBook.addPassenger(BENSON);
+        addressBook.addPassenger(DANIEL);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("meier", "lice p"));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), Set.copyOf(predicate.getCandidates(addressBook)));
+
+        predicate = new NameContainsKeywordsPredicate(Collections.singletonList("kurz"));
+        assertTrue(predicate.getCandidates(addressBook).isEmpty());
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.address.model.person.passenger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PassengerBuilder;
+
+public class PriceIsAmongHighestPredicateTest {
+
+    @Test
+    public void equals() {
+        PriceIsAmongHighestPredicate firstPredicate = new PriceIsAmongHighestPredicate(2, 400);
+        PriceIsAmongHighestPredicate secondPredicate = new PriceIsAmongHighestPredicate(3, 250);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PriceIsAmongHighestPredicate(2, 400)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different limit and price -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_passengerHasPrice() {
+        PriceIsAmongHighestPredicate predicate = new PriceIsAmongHighestPredicate(2, 400);
+
+        // price equal to the lowest of the highest prices
+        assertTrue(predicate.test(new PassengerBuilder().withPrice(4.0).build()));
+
+        // price above the lowest of the highest prices
+        assertTrue(predicate.test(new PassengerBuilder().withPrice(12.0).build()));
+
+        // price below the lowest of the highest prices
+        assertFalse(predicate.test(new PassengerBuilder().withPrice(2.5).build()));
+    }
+
+    @Test
+    public void test_passengerWithoutPrice_returnsFalse() {
+        assertFalse(new PriceIsAmongHighestPredicate(2, 400).test(new PassengerBuilder().build()));
+    }
+
+    @Test
+    public void getCandidates_returnsPassengersWithHighestPrices() {
+        Passenger cheap = new PassengerBuilder().withName("Cheap").withPrice(2.5).build();
+        Passenger middle = new PassengerBuilder().withName("Middle").withPrice(4.0).build();
+        Passenger dear = new PassengerBuilder().withName("Dear").withPrice(12.0).build();
+        AddressBook addressBook = new AddressBook();
+        for (Passenger passenger : Arrays.asList(middle, dear, cheap)) {
+            addressBook.addPassenger(passenger);
+        }
+
+        assertEquals(Arrays.asList(dear, middle),
+                new PriceIsAmongHighestPredicate(2, 400).getCandidates(addressBook));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person.passenger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -34,4 +35,20 @@ public class PriceTest {
         assertTrue(Price.isValidPrice("93.15"));
         assertTrue(Price.isValidPrice("930.15"));
     }
+
+    @Test
+    public void getCents() {
+        assertEquals(1234, new Price(12.34).getCents());
+        assertEquals(110, new Price(1.1).getCents());
+        assertEquals(0, new Price(0).getCents());
+        assertTrue(new Price(9.99).isAtLeast(999));
+        assertFalse(new Price(9.99).isAtLeast(1000));
+    }
+
+    @Test
+    public void toString_sameAsDouble() {
+        for (double price : new double[] {0, 0.05, 0.5, 1.1, 7.25, 10, 99.9, 930.15, 999.99}) {
+            assertEquals(Double.toString(price), new Price(price).toString());
+        }
+    }
 }
@@ -48,6 +48,21 @@ public class UniquePassengerListTest {
         assertTrue(uniquePassengerList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_removedPassenger_returnsFalse() {
+        uniquePassengerList.add(ALICE);
+        uniquePassengerList.remove(ALICE);
+        assertFalse(uniquePassengerList.contains(ALICE));
+    }
+
+    @Test
+    public void containsEqual_passengerWithSameIdentityButDifferentFields_returnsFalse() {
+        uniquePassengerList.add(ALICE);
+        Passenger editedAlice = new PassengerBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertTrue(uniquePassengerList.containsEqual(ALICE));
+        assertFalse(uniquePassengerList.containsEqual(editedAlice));
+    }
+
     @Test
     public void add_nullPassenger_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePassengerList.add(null));
@@ -103,6 +118,16 @@ public class UniquePassengerListTest {
         assertEquals(expectedUniquePassengerList, uniquePassengerList);
     }
 
+    @Test
+    public void setPassenger_editedPassengerHasDifferentIdentity_replacesIdentity() {
+        uniquePassengerList.add(ALICE);
+        uniquePassengerList.setPassenger(ALICE, BOB);
+        assertFalse(uniquePassengerList.contains(ALICE));
+        assertTrue(uniquePassengerList.contains(BOB));
+        uniquePassengerList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePassengerList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPassenger_editedPassengerHasNonUniqueIdentity_throwsDuplicatePassengerException() {
         uniquePassengerList.add(ALICE);
@@ -120,6 +145,13 @@ public class UniquePassengerListTest {
         assertThrows(PassengerNotFoundException.class, () -> uniquePassengerList.remove(ALICE));
     }
 
+    @Test
+    public void remove_passengerWithSameIdentityButDifferentFields_throwsPassengerNotFoundException() {
+        uniquePassengerList.add(ALICE);
+        Passenger editedAlice = new PassengerBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PassengerNotFoundException.class, () -> uniquePassengerList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingPassenger_removesPassenger() {
         uniquePassengerList.add(ALICE);
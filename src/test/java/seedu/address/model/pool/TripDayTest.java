@@ -1,5 +1,6 @@
 package seedu.address.model.pool;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -24,4 +25,13 @@ public class TripDayTest {
         TripDay mon2 = new TripDay(day2);
         assertTrue(mon.equals(mon2));
     }
+
+    @Test
+    public void getDayOfWeek() {
+        TripDay friday = new TripDay(DayOfWeek.FRIDAY);
+        assertEquals(DayOfWeek.FRIDAY, friday.getDayOfWeek());
+        assertEquals(DayOfWeek.FRIDAY.ordinal(), friday.getOrdinal());
+        assertEquals("FRIDAY", friday.toString());
+        assertTrue(TripDay.of(DayOfWeek.MONDAY).compareTo(friday) < 0);
+    }
 }
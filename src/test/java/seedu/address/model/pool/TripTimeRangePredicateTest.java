@@ -0,0 +1,90 @@
+package seedu.address.model.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.DANIEL;
+import static seedu.address.testutil.TypicalPassengers.FIONA;
+import static seedu.address.testutil.TypicalPassengers.HILARY;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.TripDay;
+import seedu.address.model.TripTime;
+import seedu.address.model.TripTimeRangePredicate;
+
+public class TripTimeRangePredicateTest {
+
+    private static final TripDay MONDAY = new TripDay(DayOfWeek.MONDAY);
+    private static final TripTime SIX_PM = new TripTime(LocalTime.of(18, 0));
+    private static final TripTime EIGHT_PM = new TripTime(LocalTime.of(20, 0));
+
+    @Test
+    public void constructor_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new TripTimeRangePredicate(Optional.empty(), EIGHT_PM, SIX_PM));
+    }
+
+    @Test
+    public void equals() {
+        TripTimeRangePredicate firstPredicate = new TripTimeRangePredicate(Optional.of(MONDAY), SIX_PM, EIGHT_PM);
+        TripTimeRangePredicate secondPredicate = new TripTimeRangePredicate(Optional.empty(), SIX_PM, EIGHT_PM);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TripTimeRangePredicate(Optional.of(MONDAY), SIX_PM, EIGHT_PM)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different trip day -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_tripTimeWithinRange_returnsTrue() {
+        TripTimeRangePredicate predicate = new TripTimeRangePredicate(Optional.of(MONDAY), SIX_PM, EIGHT_PM);
+        assertTrue(predicate.test(DANIEL));
+        assertTrue(predicate.test(HILARY));
+
+        // any day
+        predicate = new TripTimeRangePredicate(Optional.empty(), SIX_PM, EIGHT_PM);
+        assertTrue(predicate.test(ALICE));
+    }
+
+    @Test
+    public void test_tripTimeOutsideRange_returnsFalse() {
+        TripTimeRangePredicate predicate = new TripTimeRangePredicate(Optional.of(MONDAY), SIX_PM, EIGHT_PM);
+        assertFalse(predicate.test(FIONA));
+
+        // different day
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void getCandidates_returnsPassengersWithinRange() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPassenger(ALICE);
+        addressBook.addPassenger(DANIEL);
+        addressBook.addPassenger(FIONA);
+        addressBook.addPassenger(HILARY);
+
+        assertEquals(Arrays.asList(DANIEL, HILARY), new TripTimeRangePredicate(Optional.of(MONDAY), SIX_PM, EIGHT_PM)
+                .getCandidates(addressBook));
+        assertEquals(Arrays.asList(DANIEL, HILARY, ALICE), new TripTimeRangePredicate(Optional.empty(), SIX_PM,
+                EIGHT_PM).getCandidates(addressBook));
+    }
+}
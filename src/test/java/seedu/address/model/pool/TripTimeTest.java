@@ -1,5 +1,6 @@
 package seedu.address.model.pool;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -24,4 +25,23 @@ public class TripTimeTest {
         TripTime t2 = new TripTime(LocalTime.parse("23:00", otherTimeFormat));
         assertTrue(t1.equals(t2));
     }
+
+    @Test
+    public void toString_formatsAsHourMinute() {
+        assertEquals("0000", TripTime.ofMinuteOfDay(0).toString());
+        assertEquals("0905", new TripTime(LocalTime.of(9, 5)).toString());
+        assertEquals("2359", TripTime.of(LocalTime.of(23, 59)).toString());
+        assertEquals("at 1430", TripTime.of(LocalTime.of(14, 30)).appendTo(new StringBuilder("at ")).toString());
+    }
+
+    @Test
+    public void compareMinutes() {
+        TripTime morning = TripTime.of(LocalTime.of(8, 30));
+        TripTime evening = TripTime.of(LocalTime.of(18, 45));
+        assertEquals(615, morning.compareMinutes(evening));
+        assertEquals(615, evening.compareMinutes(morning));
+        assertEquals(0, morning.compareMinutes(new TripTime(LocalTime.of(8, 30))));
+        assertTrue(morning.compareTo(evening) < 0);
+        assertEquals(LocalTime.of(18, 45), evening.toLocalTime());
+    }
 }
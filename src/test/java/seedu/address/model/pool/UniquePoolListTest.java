@@ -5,20 +5,32 @@ package seedu.address.model.pool;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDrivers.DRIVER_ALICE;
+import static seedu.address.testutil.TypicalDrivers.DRIVER_BOB;
+import static seedu.address.testutil.TypicalDrivers.DRIVER_DANIEL;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
 import static seedu.address.testutil.TypicalPassengers.getTypicalPassengers;
 import static seedu.address.testutil.TypicalPools.HOMEPOOL;
 import static seedu.address.testutil.TypicalPools.OFFICEPOOL;
 import static seedu.address.testutil.TypicalPools.WORKPOOL;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.TripDay;
+import seedu.address.model.TripTime;
+import seedu.address.model.person.passenger.Passenger;
 import seedu.address.model.pool.exceptions.DuplicatePoolException;
 import seedu.address.model.pool.exceptions.PoolNotFoundException;
+import seedu.address.testutil.PassengerBuilder;
 import seedu.address.testutil.PoolBuilder;
 
 public class UniquePoolListTest {
@@ -166,6 +178,99 @@ public class UniquePoolListTest {
         );
     }
 
+    @Test
+    public void containsPassenger_passengerNotInAnyPool_returnsFalse() {
+        uniquePoolList.add(OFFICEPOOL);
+        assertFalse(uniquePoolList.containsPassenger(ALICE));
+    }
+
+    @Test
+    public void containsPassenger_passengerInRemainingPool_returnsTrue() {
+        uniquePoolList.add(HOMEPOOL);
+        uniquePoolList.add(WORKPOOL);
+        uniquePoolList.remove(HOMEPOOL);
+        assertTrue(uniquePoolList.containsPassenger(ALICE));
+        assertFalse(uniquePoolList.containsPassenger(BENSON));
+    }
+
+    @Test
+    public void containsPassenger_passengerWithSameIdentityButDifferentFields_returnsFalse() {
+        uniquePoolList.add(HOMEPOOL);
+        Passenger editedAlice = new PassengerBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertFalse(uniquePoolList.containsPassenger(editedAlice));
+    }
+
+    @Test
+    public void setPassenger_passengerInPools_updatesAllPools() {
+        uniquePoolList.add(HOMEPOOL);
+        uniquePoolList.add(WORKPOOL);
+        Passenger editedAlice = new PassengerBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePoolList.setPassenger(ALICE, editedAlice);
+
+        assertFalse(uniquePoolList.containsPassenger(ALICE));
+        assertTrue(uniquePoolList.containsPassenger(editedAlice));
+        uniquePoolList.asUnmodifiableObservableList()
+                .forEach(pool -> assertTrue(pool.getPassengers().contains(editedAlice)));
+    }
+
+    @Test
+    public void containsDriver_driverIsPassengerOfOwnPool_returnsTrue() {
+        uniquePoolList.add(new PoolBuilder(HOMEPOOL).withDriver(DRIVER_ALICE).build());
+        assertTrue(uniquePoolList.containsDriver(DRIVER_ALICE));
+    }
+
+    @Test
+    public void containsDriver_driverIsPassengerOfOtherPool_returnsFalse() {
+        uniquePoolList.add(HOMEPOOL);
+        assertFalse(uniquePoolList.containsDriver(DRIVER_ALICE));
+    }
+
+    @Test
+    public void hasPoolWithDayTimePerson_matchingDriverDayAndTime_returnsTrue() {
+        uniquePoolList.add(HOMEPOOL);
+        assertTrue(uniquePoolList.hasPoolWithDayTimePerson(HOMEPOOL.getTripDay(), HOMEPOOL.getTripTime(),
+                DRIVER_DANIEL));
+    }
+
+    @Test
+    public void hasPoolWithDayTimePerson_differentTime_returnsFalse() {
+        uniquePoolList.add(HOMEPOOL);
+        assertFalse(uniquePoolList.hasPoolWithDayTimePerson(HOMEPOOL.getTripDay(),
+                new TripTime(LocalTime.of(19, 0)), DRIVER_DANIEL));
+    }
+
+    @Test
+    public void hasPoolWithDayTimePerson_poolEditedToOtherDriver_returnsFalse() {
+        uniquePoolList.add(HOMEPOOL);
+        uniquePoolList.setPool(HOMEPOOL, new PoolBuilder(HOMEPOOL).withDriver(DRIVER_BOB).build());
+        assertFalse(uniquePoolList.hasPoolWithDayTimePerson(HOMEPOOL.getTripDay(), HOMEPOOL.getTripTime(),
+                DRIVER_DANIEL));
+        assertTrue(uniquePoolList.hasPoolWithDayTimePerson(HOMEPOOL.getTripDay(), HOMEPOOL.getTripTime(),
+                DRIVER_BOB));
+    }
+
+    @Test
+    public void getPoolsDrivenBy_day_returnsPoolsSortedByTime() {
+        Pool eveningPool = new PoolBuilder(OFFICEPOOL).withTripTime(LocalTime.of(18, 0)).build();
+        uniquePoolList.add(eveningPool);
+        uniquePoolList.add(OFFICEPOOL);
+        uniquePoolList.add(HOMEPOOL);
+        assertEquals(Arrays.asList(OFFICEPOOL, eveningPool),
+                uniquePoolList.getPoolsDrivenBy(DRIVER_ALICE, new TripDay(DayOfWeek.MONDAY)));
+        assertEquals(Collections.emptyList(),
+                uniquePoolList.getPoolsDrivenBy(DRIVER_ALICE, new TripDay(DayOfWeek.FRIDAY)));
+    }
+
+    @Test
+    public void getPoolsDrivenBy_slot_returnsMatchingPool() {
+        uniquePoolList.add(OFFICEPOOL);
+        assertEquals(Collections.singletonList(OFFICEPOOL),
+                uniquePoolList.getPoolsDrivenBy(DRIVER_ALICE, OFFICEPOOL.getTripDay(), OFFICEPOOL.getTripTime()));
+        uniquePoolList.remove(OFFICEPOOL);
+        assertEquals(Collections.emptyList(),
+                uniquePoolList.getPoolsDrivenBy(DRIVER_ALICE, OFFICEPOOL.getTripDay(), OFFICEPOOL.getTripTime()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
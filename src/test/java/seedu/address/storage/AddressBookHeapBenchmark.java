@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TripDay;
+import seedu.address.model.TripTime;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.driver.Driver;
+import seedu.address.model.person.passenger.Address;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the heap retained by a large address book loaded with {@link JsonAddressBookStorage}, whose names, phones,
+ * addresses, tags, trip days and trip times are interned, and by a copy of the same book in which every field has
+ * its own instance, as loaded before interning. Run with {@code gradlew benchmarkHeap}, optionally followed by
+ * {@code --args="<number of passengers>"}.
+ */
+public class AddressBookHeapBenchmark {
+
+    private static final int DEFAULT_PASSENGER_COUNT = 100_000;
+    private static final int GC_COUNT = 5;
+    private static final long GC_PAUSE_MILLIS = 100;
+
+    /**
+     * Runs the benchmark and prints the heap retained by each copy of the address book.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException, InterruptedException {
+        int passengerCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PASSENGER_COUNT;
+        Path filePath = Files.createTempDirectory("heap-benchmark").resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(AddressBookStorageBenchmark.createAddressBook(passengerCount));
+        // Loads and copies the book once, so that classes and caches are not counted in either measurement.
+        copyWithoutSharing(storage.readAddressBook().get());
+
+        long baseline = usedHeap();
+        ReadOnlyAddressBook interned = storage.readAddressBook().get();
+        long internedBytes = usedHeap() - baseline;
+
+        baseline = usedHeap();
+        ReadOnlyAddressBook unshared = copyWithoutSharing(interned);
+        long unsharedBytes = usedHeap() - baseline;
+
+        System.out.println(String.format("%d passengers, %d pools", interned.getPassengerList().size(),
+                interned.getPoolList().size()));
+        System.out.println(String.format("%-10s %8.1f MB", "unshared", unsharedBytes / 1_048_576.0));
+        System.out.println(String.format("%-10s %8.1f MB (%.0f%% less)", "interned", internedBytes / 1_048_576.0,
+                100.0 * (unsharedBytes - internedBytes) / unsharedBytes));
+
+        // Keeps both books reachable until they have been measured.
+        if (interned.getPassengerList().size() != unshared.getPassengerList().size()) {
+            throw new AssertionError("The copy does not have every passenger");
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_COUNT; i++) {
+            System.gc();
+            Thread.sleep(GC_PAUSE_MILLIS);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} in which no two fields share an instance, but pools still share the
+     * passengers of the address book, so that only the effect of interning is measured.
+     */
+    private static ReadOnlyAddressBook copyWithoutSharing(ReadOnlyAddressBook addressBook) {
+        Map<Passenger, Passenger> copies = new HashMap<>();
+        List<Passenger> passengers = new ArrayList<>();
+        for (Passenger passenger : addressBook.getPassengerList()) {
+            Passenger copy = new Passenger(new Name(new String(passenger.getName().fullName)),
+                    new Phone(new String(passenger.getPhone().value)),
+                    new Address(new String(passenger.getAddress().value)),
+                    new TripDay(passenger.getTripDay().getDayOfWeek()),
+                    new TripTime(passenger.getTripTime().toLocalTime()),
+                    passenger.getPrice(), copyTags(passenger.getTags()));
+            copies.put(passenger, copy);
+            passengers.add(copy);
+        }
+
+        List<Pool> pools = new ArrayList<>();
+        for (Pool pool : addressBook.getPoolList()) {
+            List<Passenger> poolPassengers = new ArrayList<>();
+            pool.getPassengers().forEach(passenger -> poolPassengers.add(copies.get(passenger)));
+            Driver driver = new Driver(new Name(new String(pool.getDriver().getName().fullName)),
+                    new Phone(new String(pool.getDriver().getPhone().value)));
+            pools.add(new Pool(driver, new TripDay(pool.getTripDay().getDayOfWeek()),
+                    new TripTime(pool.getTripTime().toLocalTime()),
+                    poolPassengers, copyTags(pool.getTags())));
+        }
+
+        AddressBook copy = new AddressBook();
+        copy.setPassengers(passengers);
+        copy.setPools(pools);
+        return copy;
+    }
+
+    private static Set<Tag> copyTags(Set<Tag> tags) {
+        Set<Tag> copies = new HashSet<>();
+        tags.forEach(tag -> copies.add(new Tag(new String(tag.tagName))));
+        return copies;
+    }
+}
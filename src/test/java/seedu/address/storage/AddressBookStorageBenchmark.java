@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.driver.Driver;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+import seedu.address.testutil.PassengerBuilder;
+import seedu.address.testutil.PoolBuilder;
+
+/**
+ * Compares the time taken to save and load a large address book with {@link JsonAddressBookStorage} and
+ * {@link BinaryAddressBookStorage}. Run with {@code gradlew benchmarkStorage}, optionally followed by
+ * {@code --args="<number of passengers> <number of runs>"}.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_PASSENGER_COUNT = 20_000;
+    private static final int DEFAULT_RUN_COUNT = 10;
+    private static final int WARM_UP_RUN_COUNT = 3;
+    private static final int PASSENGERS_PER_POOL = 4;
+    private static final int ADDRESS_COUNT = 200;
+    private static final String[] TAGS = {"female", "male", "wheelchair", "pet", "quiet"};
+    private static final LocalTime[] TRIP_TIMES = {LocalTime.of(7, 30), LocalTime.of(8, 0), LocalTime.of(8, 30),
+        LocalTime.of(17, 30), LocalTime.of(18, 0), LocalTime.of(18, 30)};
+
+    /**
+     * Runs the benchmark and prints the median save and load times of each storage.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        int passengerCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PASSENGER_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        AddressBook addressBook = createAddressBook(passengerCount);
+        Path folder = Files.createTempDirectory("storage-benchmark");
+
+        System.out.println(String.format("%d passengers, %d pools, median of %d runs",
+                addressBook.getPassengerList().size(), addressBook.getPoolList().size(), runCount));
+        run("json", new JsonAddressBookStorage(folder.resolve("addressBook.json")), addressBook, runCount);
+        run("compact json", new JsonAddressBookStorage(folder.resolve("compactAddressBook.json"), true),
+                addressBook, runCount);
+        run("binary", new BinaryAddressBookStorage(folder.resolve("addressBook.bin")), addressBook, runCount);
+    }
+
+    private static void run(String storageName, AddressBookStorage storage, ReadOnlyAddressBook addressBook,
+                            int runCount) throws IOException, DataConversionException {
+        long[] saveNanos = new long[runCount];
+        long[] loadNanos = new long[runCount];
+        for (int i = -WARM_UP_RUN_COUNT; i < runCount; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            ReadOnlyAddressBook loaded = storage.readAddressBook().get();
+            long end = System.nanoTime();
+            if (loaded.getPassengerList().size() != addressBook.getPassengerList().size()) {
+                throw new AssertionError(storageName + " storage did not load every passenger");
+            }
+            if (i >= 0) {
+                saveNanos[i] = saved - start;
+                loadNanos[i] = end - saved;
+            }
+        }
+
+        System.out.println(String.format("%-12s save %8.1f ms, load %8.1f ms, %9d bytes", storageName,
+                medianMillis(saveNanos), medianMillis(loadNanos), Files.size(storage.getAddressBookFilePath())));
+    }
+
+    private static double medianMillis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1_000_000.0;
+    }
+
+    /**
+     * Returns an address book with {@code passengerCount} passengers, most of them in pools of
+     * {@value #PASSENGERS_PER_POOL}, with addresses, trip days, trip times and tags that repeat as they would in a
+     * real roster.
+     */
+    static AddressBook createAddressBook(int passengerCount) {
+        List<Passenger> passengers = new ArrayList<>(passengerCount);
+        for (int i = 0; i < passengerCount; i++) {
+            passengers.add(new PassengerBuilder()
+                    .withName("Passenger " + i)
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withAddress("Block " + (i % ADDRESS_COUNT) + ", Jurong West Ave 6")
+                    .withTripDay(getTripDay(i / PASSENGERS_PER_POOL))
+                    .withTripTime(TRIP_TIMES[i % TRIP_TIMES.length])
+                    .withPrice(1.0 + i % 10)
+                    .withTags(TAGS[i % TAGS.length])
+                    .build());
+        }
+
+        List<Pool> pools = new ArrayList<>();
+        for (int i = 0; i + PASSENGERS_PER_POOL <= passengerCount; i += PASSENGERS_PER_POOL) {
+            int poolNumber = i / PASSENGERS_PER_POOL;
+            Driver driver = new Driver(new Name("Driver " + poolNumber),
+                    new Phone(String.valueOf(90_000_000 + poolNumber)));
+            pools.add(new PoolBuilder()
+                    .withDriver(driver)
+                    .withTripDay(getTripDay(poolNumber))
+                    .withTripTime(TRIP_TIMES[poolNumber % TRIP_TIMES.length])
+                    .withPassengers(new ArrayList<>(passengers.subList(i, i + PASSENGERS_PER_POOL)))
+                    .withTags(TAGS[poolNumber % TAGS.length])
+                    .build());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPassengers(passengers);
+        addressBook.setPools(pools);
+        return addressBook;
+    }
+
+    private static DayOfWeek getTripDay(int poolNumber) {
+        return DayOfWeek.of(poolNumber % 5 + 1);
+    }
+}
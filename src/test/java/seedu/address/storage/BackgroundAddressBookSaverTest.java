@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.HOON;
+import static seedu.address.testutil.TypicalPassengers.IDA;
+import static seedu.address.testutil.TypicalPassengers.getTypicalAddressBookPassengers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60_000;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private RecordingAddressBookStorage storage;
+    private BackgroundAddressBookSaver saver;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new RecordingAddressBookStorage(testFolder.resolve("addressBook.json"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (saver != null) {
+            saver.shutdown();
+        }
+    }
+
+    @Test
+    public void constructor_negativeDebounce_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BackgroundAddressBookSaver(storage, -1));
+    }
+
+    @Test
+    public void requestSave_afterDebounce_savesSnapshotInBackground() throws Exception {
+        saver = new BackgroundAddressBookSaver(storage, 0);
+        AddressBook addressBook = getTypicalAddressBookPassengers();
+
+        saver.requestSave(addressBook);
+
+        ReadOnlyAddressBook saved = storage.nextSave.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(addressBook.getPassengerList(), saved.getPassengerList());
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_coalescedIntoOneWrite() throws Exception {
+        saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+        AddressBook addressBook = getTypicalAddressBookPassengers();
+
+        saver.requestSave(addressBook);
+        addressBook.addPassenger(HOON);
+        saver.requestSave(addressBook);
+        addressBook.addPassenger(IDA);
+        saver.requestSave(addressBook);
+        assertEquals(2, saver.getCoalescedCount());
+        assertEquals(0, storage.saved.size());
+
+        // flushing replaces the pending write, so the burst is written once
+        saver.flush(addressBook);
+        assertEquals(1, storage.saved.size());
+        assertEquals(1, storage.flushCount);
+        assertEquals(addressBook.getPassengerList(), storage.saved.get(0).getPassengerList());
+    }
+
+    @Test
+    public void requestSave_addressBookChangedAfterRequest_snapshotUnchanged() throws Exception {
+        storage.blockSaves = new CompletableFuture<>();
+        saver = new BackgroundAddressBookSaver(storage, 0);
+        AddressBook addressBook = getTypicalAddressBookPassengers();
+        int size = addressBook.getPassengerList().size();
+
+        saver.requestSave(addressBook);
+        addressBook.addPassenger(HOON);
+        storage.blockSaves.complete(null);
+
+        ReadOnlyAddressBook saved = storage.nextSave.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(size, saved.getPassengerList().size());
+        assertSame(addressBook.getPassengerList().get(0), saved.getPassengerList().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> saved.getPassengerList().add(IDA));
+    }
+
+    @Test
+    public void requestSave_saveFails_failureReported() throws Exception {
+        storage.failure = new IOException("disk full");
+        saver = new BackgroundAddressBookSaver(storage, 0);
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        saver.setFailureHandler(reported::complete);
+
+        saver.requestSave(getTypicalAddressBookPassengers());
+
+        assertSame(storage.failure, reported.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() {
+        storage.failure = new IOException("disk full");
+        saver = new BackgroundAddressBookSaver(storage, LONG_DEBOUNCE_MILLIS);
+
+        IOException thrown = assertThrows(IOException.class, () -> saver.flush(getTypicalAddressBookPassengers()));
+        assertSame(storage.failure, thrown);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records what it is asked to save instead of writing it.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final CompletableFuture<ReadOnlyAddressBook> nextSave = new CompletableFuture<>();
+        private CompletableFuture<Void> blockSaves = CompletableFuture.completedFuture(null);
+        private IOException failure;
+        private int flushCount;
+
+        private RecordingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            blockSaves.join();
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+            nextSave.complete(addressBook);
+        }
+
+        @Override
+        public void flushAddressBook(ReadOnlyAddressBook addressBook) {
+            flushCount++;
+        }
+    }
+}
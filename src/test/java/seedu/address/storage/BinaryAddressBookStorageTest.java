@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.HOON;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_ADDRESSBOOK_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+    private static final Path INVALID_PASSENGER_FILE = TEST_DATA_FOLDER.resolve("invalidPassengerAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStream.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.copy(TYPICAL_ADDRESSBOOK_FILE, filePath);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), new AddressBook(readBack));
+
+        // the next save replaces the json file with a binary one
+        storage.saveAddressBook(readBack);
+        assertTrue(BinaryAddressBookStream.isBinaryFile(filePath));
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidPassenger_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.copy(INVALID_PASSENGER_FILE, filePath);
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(TypicalAddressBook.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedOrNewerFile_throwsIoException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStream.write(TypicalAddressBook.getTypicalAddressBook(), out);
+        byte[] bytes = out.toByteArray();
+
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThrows(IOException.class, () -> BinaryAddressBookStream.read(new ByteArrayInputStream(truncated)));
+
+        bytes[7] = BinaryAddressBookStream.FORMAT_VERSION + 1;
+        assertThrows(IOException.class, () -> BinaryAddressBookStream.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void importJsonThenExportJson_sameAddressBook() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("exported.json");
+
+        BinaryAddressBookStorage.importJson(TYPICAL_ADDRESSBOOK_FILE, binaryFilePath);
+        assertTrue(BinaryAddressBookStream.isBinaryFile(binaryFilePath));
+        BinaryAddressBookStorage.exportJson(binaryFilePath, jsonFilePath);
+
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(),
+                new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithJsonFile_importsAndMovesJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("GMEdata.json");
+        Files.copy(TYPICAL_ADDRESSBOOK_FILE, jsonFilePath);
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(binaryFilePath, jsonFilePath);
+
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertTrue(BinaryAddressBookStream.isBinaryFile(binaryFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(DataFileConversions.getConvertedFilePath(jsonFilePath)));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "GMEdata.bin"), BinaryAddressBookStorage.getBinaryFilePath(
+                Paths.get("data", "GMEdata.json")));
+        assertEquals(Paths.get("data", "GMEdata.bin"), BinaryAddressBookStorage.getBinaryFilePath(
+                Paths.get("data", "GMEdata.bin")));
+        assertEquals(Paths.get("data", "GMEdata.bin"), BinaryAddressBookStorage.getBinaryFilePath(
+                Paths.get("data", "GMEdata")));
+    }
+
+    @Test
+    public void importJson_missingFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> BinaryAddressBookStorage.importJson(
+                testFolder.resolve("missing.json"), testFolder.resolve("addressBook.bin")));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class DataFileBackupsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void rotate_missingFile_noBackup() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        DataFileBackups.rotate(filePath);
+        assertTrue(DataFileBackups.getBackupPaths(filePath).isEmpty());
+    }
+
+    @Test
+    public void rotate_manyVersions_keepsNewestBackups() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        for (int version = 1; version <= DataFileBackups.BACKUP_COUNT + 2; version++) {
+            DataFileBackups.rotate(filePath);
+            FileUtil.writeToFile(filePath, "version " + version);
+        }
+
+        List<Path> backupPaths = DataFileBackups.getBackupPaths(filePath);
+        assertEquals(DataFileBackups.BACKUP_COUNT, backupPaths.size());
+        for (int i = 0; i < backupPaths.size(); i++) {
+            int expectedVersion = DataFileBackups.BACKUP_COUNT + 1 - i;
+            assertEquals("version " + expectedVersion, FileUtil.readFromFile(backupPaths.get(i)));
+        }
+        assertEquals("version " + (DataFileBackups.BACKUP_COUNT + 2), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void moveAside_existingFile_movedAndNotBackedUp() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        FileUtil.writeToFile(filePath, "damaged");
+
+        Path damagedPath = DataFileBackups.moveAside(filePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals("damaged", FileUtil.readFromFile(damagedPath));
+        assertTrue(DataFileBackups.getBackupPaths(filePath).isEmpty());
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPassengers.HOON;
+import static seedu.address.testutil.TypicalPassengers.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class DataFileConversionsTest {
+
+    private static final Path TYPICAL_ADDRESSBOOK_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void exportToJson_jsonFileExists_nothingExported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("GMEdata.json");
+        Files.copy(TYPICAL_ADDRESSBOOK_FILE, jsonFilePath);
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(new AddressBook());
+
+        assertEquals(Optional.empty(), DataFileConversions.exportToJson(jsonFilePath, jsonFilePath));
+        assertTrue(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void exportToJson_noDataFile_nothingExported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("GMEdata.json");
+        assertEquals(Optional.empty(), DataFileConversions.exportToJson(jsonFilePath, jsonFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void switchFormats_jsonToBinaryToJson_keepsEdits() throws Exception {
+        Path jsonFilePath = testFolder.resolve("GMEdata.json");
+        Files.copy(TYPICAL_ADDRESSBOOK_FILE, jsonFilePath);
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        AddressBook expected = TypicalAddressBook.getTypicalAddressBook();
+
+        // JSON -> BINARY, then edit
+        assertEquals(Optional.empty(), DataFileConversions.exportToJson(jsonFilePath, binaryFilePath));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath, jsonFilePath);
+        AddressBook addressBook = new AddressBook(binaryStorage.readAddressBook().get());
+        assertEquals(expected, addressBook);
+        assertFalse(Files.exists(jsonFilePath));
+        addressBook.addPassenger(HOON);
+        binaryStorage.saveAddressBook(addressBook);
+        expected.addPassenger(HOON);
+
+        // BINARY -> JSON, then edit
+        assertEquals(Optional.of(binaryFilePath), DataFileConversions.exportToJson(jsonFilePath, jsonFilePath));
+        assertFalse(Files.exists(binaryFilePath));
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(jsonFilePath);
+        addressBook = new AddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(expected, addressBook);
+        addressBook.addPassenger(IDA);
+        jsonStorage.saveAddressBook(addressBook);
+        jsonStorage.flushAddressBook(addressBook);
+        expected.addPassenger(IDA);
+
+        // JSON -> BINARY again: the binary file written before the first switch back is not used
+        assertEquals(Optional.empty(), DataFileConversions.exportToJson(jsonFilePath, binaryFilePath));
+        binaryStorage = new BinaryAddressBookStorage(binaryFilePath, jsonFilePath);
+        assertEquals(expected, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void switchFormats_databaseToSegmented_keepsEdits() throws Exception {
+        Path jsonFilePath = testFolder.resolve("GMEdata.json");
+        Files.copy(TYPICAL_ADDRESSBOOK_FILE, jsonFilePath);
+        Path databaseFilePath = DatabaseAddressBookStorage.getDatabaseFilePath(jsonFilePath);
+        Path manifestFilePath = SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath);
+        AddressBook expected = TypicalAddressBook.getTypicalAddressBook();
+
+        // JSON -> DATABASE, then edit
+        DatabaseAddressBookStorage databaseStorage = new DatabaseAddressBookStorage(databaseFilePath, jsonFilePath);
+        AddressBook addressBook = new AddressBook(databaseStorage.readAddressBook().get());
+        addressBook.addPassenger(HOON);
+        databaseStorage.saveAddressBook(addressBook);
+        expected.addPassenger(HOON);
+        assertFalse(Files.exists(jsonFilePath));
+
+        // DATABASE -> SEGMENTED, through json
+        assertEquals(Optional.of(databaseFilePath),
+                DataFileConversions.exportToJson(jsonFilePath, manifestFilePath));
+        assertFalse(Files.exists(databaseFilePath));
+        SegmentedAddressBookStorage segmentedStorage = new SegmentedAddressBookStorage(manifestFilePath, jsonFilePath);
+        addressBook = new AddressBook(segmentedStorage.readAddressBook().get());
+        assertEquals(expected, addressBook);
+        segmentedStorage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(jsonFilePath));
+
+        // SEGMENTED -> JSON
+        assertEquals(Optional.of(manifestFilePath), DataFileConversions.exportToJson(jsonFilePath, jsonFilePath));
+        assertEquals(expected, new AddressBook(new JournaledAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPassengers.HOON;
+import static seedu.address.testutil.TypicalPassengers.KINGSLEY;
+import static seedu.address.testutil.TypicalPools.OFFICEPOOL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PassengerBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class DatabaseAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_ADDRESSBOOK_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidFilePath_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new DatabaseAddressBookStorage(null));
+        assertThrows(IllegalArgumentException.class, () -> new DatabaseAddressBookStorage(Paths.get("data.json")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new DatabaseAddressBookStorage(Paths.get("data;AUTO_SERVER=TRUE.mv.db")));
+    }
+
+    @Test
+    public void getDatabaseFilePath() {
+        assertEquals(Paths.get("data", "GMEdata.mv.db"),
+                DatabaseAddressBookStorage.getDatabaseFilePath(Paths.get("data", "GMEdata.json")));
+        assertEquals(Paths.get("GMEdata.mv.db"), DatabaseAddressBookStorage.getDatabaseFilePath(Paths.get("GMEdata")));
+        assertEquals(Paths.get("GMEdata.mv.db"),
+                DatabaseAddressBookStorage.getDatabaseFilePath(Paths.get("GMEdata.mv.db")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.mv.db");
+        assertFalse(new DatabaseAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.mv.db");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Edit, add and remove passengers and pools, and save only the changed rows
+        original.setPassenger(ALICE, new PassengerBuilder(ALICE).withAddress("Changed Road").build());
+        original.setPassenger(BENSON, new PassengerBuilder(BENSON).withName("Benson Changed").build());
+        original.removePool(OFFICEPOOL);
+        original.removePassenger(KINGSLEY);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new DatabaseAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original.getPassengerList().size(), countRows(filePath, "passenger"));
+        assertEquals(original.getPoolList().size(), countRows(filePath, "pool"));
+
+        // Save again after reading
+        original.removePassenger(HOON);
+        storage.readAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_passengerRemoved_otherRowsUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.mv.db");
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Map<Long, Long> expectedSortKeys = readSortKeys(filePath, "passenger");
+
+        addressBook.removePassenger(KINGSLEY);
+        storage.saveAddressBook(addressBook);
+        Map<Long, Long> sortKeys = readSortKeys(filePath, "passenger");
+        assertEquals(expectedSortKeys.size() - 1, sortKeys.size());
+        expectedSortKeys.keySet().retainAll(sortKeys.keySet());
+        assertEquals(expectedSortKeys, sortKeys);
+        assertEquals(addressBook, new AddressBook(new DatabaseAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_allRowsReplaced() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.mv.db");
+        Path otherFilePath = testFolder.resolve("other.mv.db");
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook, otherFilePath);
+        addressBook.removePassenger(KINGSLEY);
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingDatabaseWithJsonFile_migrated() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.mv.db");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        Files.copy(TYPICAL_ADDRESSBOOK_FILE, jsonFilePath);
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, jsonFilePath);
+
+        AddressBook migrated = new AddressBook(storage.readAddressBook().get());
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), migrated);
+
+        assertTrue(Files.exists(jsonFilePath));
+
+        storage.flushAddressBook(migrated);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(DataFileConversions.getConvertedFilePath(jsonFilePath)));
+        assertEquals(migrated, new AddressBook(new DatabaseAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private static int countRows(Path filePath, String table) throws Exception {
+        try (Connection connection = DriverManager.getConnection(getUrl(filePath));
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rows.next();
+            return rows.getInt(1);
+        }
+    }
+
+    private static Map<Long, Long> readSortKeys(Path filePath, String table) throws Exception {
+        Map<Long, Long> sortKeys = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(getUrl(filePath));
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id, sort_key FROM " + table)) {
+            while (rows.next()) {
+                sortKeys.put(rows.getLong(1), rows.getLong(2));
+            }
+        }
+        return sortKeys;
+    }
+
+    private static String getUrl(Path filePath) {
+        String fileName = filePath.toAbsolutePath().toString();
+        return "jdbc:h2:file:" + fileName.substring(0, fileName.length() - ".mv.db".length());
+    }
+}
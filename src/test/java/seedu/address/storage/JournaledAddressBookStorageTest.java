@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+import static seedu.address.testutil.TypicalPassengers.BENSON;
+import static seedu.address.testutil.TypicalPassengers.HOON;
+import static seedu.address.testutil.TypicalPassengers.IDA;
+import static seedu.address.testutil.TypicalPassengers.getTypicalAddressBookPassengers;
+import static seedu.address.testutil.TypicalPools.HOMEPOOL;
+import static seedu.address.testutil.TypicalPools.OFFICEPOOL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.testutil.PassengerBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        storage = new JournaledAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void getJournalFilePath_nextToDataFile() {
+        assertEquals(testFolder.resolve("TempAddressBook.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+        original.removePassenger(BENSON);
+        original.setPassenger(ALICE, new PassengerBuilder(ALICE).withPrice(4.5).build());
+        storage.saveAddressBook(original);
+
+        // the snapshot is untouched, and one entry is appended per save
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_poolChanges_replayed() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        original.addPool(HOMEPOOL);
+        storage.saveAddressBook(original);
+        original.addPool(OFFICEPOOL);
+        original.removePool(HOMEPOOL);
+        storage.saveAddressBook(original);
+
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPassenger(IDA);
+        reopened.saveAddressBook(readBack);
+
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        original.addPassenger(IDA);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_largeChange_savesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotInterval_savesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        Passenger hoon = HOON;
+        for (int i = 0; i < JournaledAddressBookStorage.SNAPSHOT_INTERVAL; i++) {
+            Passenger editedHoon = new PassengerBuilder(HOON).withPrice((double) i).build();
+            if (i == 0) {
+                original.addPassenger(editedHoon);
+            } else {
+                original.setPassenger(hoon, editedHoon);
+            }
+            hoon = editedHoon;
+            storage.saveAddressBook(original);
+        }
+        assertEquals(JournaledAddressBookStorage.SNAPSHOT_INTERVAL + 1, Files.readAllLines(journalFilePath).size());
+
+        original.removePassenger(hoon);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedOutsideApp_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook edited = new AddressBook();
+        edited.addPassenger(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        assertEquals(edited, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenEntry_ignoredAndJournalRestarted() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath, "{\"passengers\":[{\"ty".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPassenger(IDA);
+        reopened.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_journalHasEntries_savesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBookPassengers();
+        storage.saveAddressBook(original);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+
+        storage.flushAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+        storage.saveAddressBook(new AddressBook());
+        assertTrue(storage.readAddressBook().isPresent());
+    }
+}
@@ -1,13 +1,16 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedPool.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPools.HOMEPOOL;
 import static seedu.address.testutil.TypicalPools.OFFICEPOOL;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.TripDay;
 import seedu.address.model.TripTime;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
 
 class JsonAdaptedPoolTest {
     private static final String INVALID_NAME = "R@chel";
@@ -84,4 +90,29 @@ class JsonAdaptedPoolTest {
         assertThrows(IllegalValueException.class, pool::toModelType);
     }
 
+    @Test
+    public void toModelType_passengerReferences_resolvedToListedPassengers() throws Exception {
+        Map<PersonIdentity, Passenger> passengersByIdentity = HOMEPOOL.getPassengers().stream()
+                .collect(Collectors.toMap(Passenger::getIdentity, passenger -> passenger));
+        Pool pool = JsonAdaptedPool.withPassengerReferences(HOMEPOOL).toModelType(passengersByIdentity);
+        assertEquals(HOMEPOOL, pool);
+        for (int i = 0; i < pool.getPassengers().size(); i++) {
+            assertSame(HOMEPOOL.getPassengers().get(i), pool.getPassengers().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_unknownPassengerReference_throwsIllegalValueException() {
+        JsonAdaptedPool pool = JsonAdaptedPool.withPassengerReferences(HOMEPOOL);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_POOL_PASSENGER_INVALID, () ->
+                pool.toModelType(Collections.emptyMap()));
+    }
+
+    @Test
+    public void toModelType_nullPassengers_throwsIllegalValueException() {
+        JsonAdaptedPool pool = new JsonAdaptedPool(VALID_TRIPDAY, VALID_TRIPTIME, null, VALID_TAGS, VALID_DRIVER);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Passenger.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, pool::toModelType);
+    }
+
 }
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.ALICE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PassengerBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_ADDRESSBOOK_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+
+    private static final Pattern CHECKSUM_FIELD = Pattern.compile(",\\s*\"checksum\"\\s*:\\s*(\\d+)");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFile_typicalAddressBookFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookStream.readFile(TYPICAL_ADDRESSBOOK_FILE).toModelType();
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readFile_checksum_coversWholeFile() throws Exception {
+        CRC32 checksum = new CRC32();
+        JsonAddressBookStream.readFile(TYPICAL_ADDRESSBOOK_FILE, checksum);
+
+        CRC32 expectedChecksum = new CRC32();
+        expectedChecksum.update(Files.readAllBytes(TYPICAL_ADDRESSBOOK_FILE));
+        assertEquals(expectedChecksum.getValue(), checksum.getValue());
+    }
+
+    @Test
+    public void write_notCompact_sameAsJsonUtil() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(addressBook, out, false);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                withoutChecksum(out.toString(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void write_compact_sameAsCompactJsonUtil() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(addressBook, out, true);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)), withoutChecksum(json));
+        assertFalse(json.contains("\n"));
+    }
+
+    @Test
+    public void writeFileThenReadFile_compactAndNotCompact_sameAddressBook() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressBook.json");
+
+        for (boolean isCompact : new boolean[] {false, true}) {
+            CRC32 writtenChecksum = new CRC32();
+            JsonAddressBookStream.writeFile(addressBook, filePath, isCompact, writtenChecksum);
+            CRC32 readChecksum = new CRC32();
+            assertEquals(addressBook, JsonAddressBookStream.readFile(filePath, readChecksum).toModelType());
+            assertEquals(writtenChecksum.getValue(), readChecksum.getValue());
+        }
+    }
+
+    @Test
+    public void write_editedRecords_encodedAgain() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        JsonAddressBookStream.write(addressBook, new ByteArrayOutputStream(), false);
+
+        addressBook.setPassenger(ALICE, new PassengerBuilder(ALICE).withAddress("Changed Road").build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(addressBook, out, false);
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), withoutChecksum(json));
+        assertTrue(json.contains("Changed Road"));
+    }
+
+    @Test
+    public void write_checksum_coversEverythingBeforeIt() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.write(TypicalAddressBook.getTypicalAddressBook(), out, false);
+        String json = out.toString(StandardCharsets.UTF_8);
+        Matcher matcher = CHECKSUM_FIELD.matcher(json);
+        assertTrue(matcher.find());
+
+        CRC32 expectedChecksum = new CRC32();
+        expectedChecksum.update(json.substring(0, matcher.start()).getBytes(StandardCharsets.UTF_8));
+        assertEquals(expectedChecksum.getValue(), Long.parseLong(matcher.group(1)));
+    }
+
+    @Test
+    public void readFile_checksumMismatch_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStream.writeFile(TypicalAddressBook.getTypicalAddressBook(), filePath, false);
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.replace("Alice Pauline", "Alice Paulina"));
+
+        assertThrows(IOException.class, () -> JsonAddressBookStream.readFile(filePath));
+    }
+
+    @Test
+    public void readFile_checksumRemoved_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStream.writeFile(TypicalAddressBook.getTypicalAddressBook(), filePath, false);
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, withoutChecksum(json.replace("Alice Pauline", "Alice Paulina")));
+
+        AddressBook addressBook = JsonAddressBookStream.readFile(filePath).toModelType();
+        assertTrue(addressBook.getPassengerList().stream()
+                .anyMatch(passenger -> passenger.getName().fullName.equals("Alice Paulina")));
+    }
+
+    @Test
+    public void read_checksumNotLast_throwsIoException() {
+        assertThrows(IOException.class, () -> read("{\"checksum\": 1, \"passengers\": []}"));
+    }
+
+    @Test
+    public void read_unknownAndMissingFields_ignored() throws Exception {
+        String json = "{\"metadata\": {\"major\": 2}, \"tags\": [1, 2], \"pools\": null}";
+        AddressBook addressBook = read(json).toModelType();
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"passengers\": {}}"));
+        assertThrows(IOException.class, () -> read("{\"passengers\": [1]}"));
+        assertThrows(IOException.class, () -> read("{\"passengers\": ["));
+    }
+
+    private static String withoutChecksum(String json) {
+        return CHECKSUM_FIELD.matcher(json).replaceFirst("");
+    }
+
+    private static JsonSerializableAddressBook read(String json) throws IOException {
+        return JsonAddressBookStream.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,18 +1,29 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.passenger.Passenger;
+import seedu.address.model.pool.Pool;
+import seedu.address.testutil.PassengerBuilder;
 import seedu.address.testutil.TypicalAddressBook;
 import seedu.address.testutil.TypicalPassengers;
+import seedu.address.testutil.TypicalPools;
 
 public class JsonSerializableAddressBookTest {
 
@@ -96,4 +107,102 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_POOL_PASSENGER_DAY_MISMATCH,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_currentVersion_poolsShareListedPassengers() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalAddressBook));
+        assertTrue(json.contains("\"version\" : " + JsonSerializableAddressBook.CURRENT_VERSION));
+        assertTrue(json.contains("\"passengerRefs\""));
+
+        AddressBook addressBookFromJson = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class)
+                .toModelType();
+        assertEquals(typicalAddressBook, addressBookFromJson);
+        assertPoolsShareListedPassengers(addressBookFromJson);
+    }
+
+    @Test
+    public void toModelType_unversionedFile_migrated() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_ADDRESSBOOK_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertPoolsShareListedPassengers(addressBookFromFile);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBookFromFile));
+        assertTrue(json.contains("\"version\" : " + JsonSerializableAddressBook.CURRENT_VERSION));
+        // every passenger is stored in full once, in the passenger list
+        assertEquals(addressBookFromFile.getPassengerList().size(), json.split("\"address\"", -1).length - 1);
+        assertEquals(addressBookFromFile,
+                JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    @Test
+    public void toModelType_newerVersion_throwsIllegalValueException() throws Exception {
+        int newerVersion = JsonSerializableAddressBook.CURRENT_VERSION + 1;
+        JsonSerializableAddressBook data = JsonUtil.fromJsonString(
+                "{\"version\": " + newerVersion + ", \"passengers\": [], \"pools\": []}",
+                JsonSerializableAddressBook.class);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION, newerVersion),
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_unknownPassengerReference_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION,
+                Collections.emptyList(), List.of(JsonAdaptedPool.withPassengerReferences(TypicalPools.HOMEPOOL)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_POOL_PASSENGER_INVALID,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_severalViolations_allReported() {
+        JsonAdaptedPassenger alice = new JsonAdaptedPassenger(TypicalPassengers.ALICE);
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION,
+                List.of(alice, alice), List.of(JsonAdaptedPool.withPassengerReferences(TypicalPools.HOMEPOOL)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PASSENGER + "\n"
+                + JsonSerializableAddressBook.MESSAGE_POOL_PASSENGER_INVALID, data::toModelType);
+    }
+
+    @Test
+    public void toModelType_parallel_sameAsSequential() throws Exception {
+        List<JsonAdaptedPassenger> passengers = new ArrayList<>();
+        for (int i = 0; i < RecordConverter.CHUNK_SIZE * 4; i++) {
+            passengers.add(new JsonAdaptedPassenger(new PassengerBuilder().withName("Passenger " + i)
+                    .withPhone(String.valueOf(80000000 + i)).build()));
+        }
+        List<JsonAdaptedPool> pools = List.of(JsonAdaptedPool.withPassengerReferences(TypicalPools.HOMEPOOL));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION,
+                passengers, Collections.emptyList());
+        assertEquals(data.toModelType(), data.toModelType(ForkJoinPool.commonPool()));
+
+        // violations are reported in the same order as a sequential conversion would report them
+        passengers.add(passengers.get(0));
+        passengers.add(1, new JsonAdaptedPassenger("R@chel", "80000000", "Kent Ridge", "FRIDAY", "1800", "",
+                Collections.emptyList()));
+        JsonSerializableAddressBook invalidData = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.CURRENT_VERSION, passengers, pools);
+        String expectedMessage = getViolationMessage(invalidData::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                invalidData.toModelType(ForkJoinPool.commonPool()));
+        assertEquals(3, expectedMessage.split("\n").length);
+    }
+
+    private static String getViolationMessage(Executable executable) {
+        try {
+            executable.execute();
+        } catch (Throwable t) {
+            return t.getMessage();
+        }
+        throw new AssertionError("Expected an IllegalValueException to be thrown");
+    }
+
+    private static void assertPoolsShareListedPassengers(AddressBook addressBook) {
+        for (Pool pool : addressBook.getPoolList()) {
+            for (Passenger passenger : pool.getPassengers()) {
+                int index = addressBook.getPassengerList().indexOf(passenger);
+                assertSame(addressBook.getPassengerList().get(index), passenger);
+            }
+        }
+    }
 }
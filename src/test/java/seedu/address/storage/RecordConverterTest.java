@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.storage.RecordConverter.Conversion;
+import seedu.address.storage.RecordConverter.Converter;
+
+public class RecordConverterTest {
+
+    private static final int RECORD_COUNT = RecordConverter.CHUNK_SIZE * 10 + 1;
+
+    private static final Converter<Integer, Integer> DOUBLE_UNLESS_MULTIPLE_OF_SEVEN = record -> {
+        if (record % 7 == 0) {
+            throw new IllegalValueException("multiple of seven: " + record);
+        }
+        return record * 2;
+    };
+
+    @Test
+    public void parallel_nullPool_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> RecordConverter.parallel(null));
+    }
+
+    @Test
+    public void convertAll_sequential_resultsInRecordOrder() {
+        assertConvertedInOrder(RecordConverter.sequential().convertAll(getRecords(),
+                DOUBLE_UNLESS_MULTIPLE_OF_SEVEN));
+    }
+
+    @Test
+    public void convertAll_parallel_resultsInRecordOrder() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertConvertedInOrder(RecordConverter.parallel(pool).convertAll(getRecords(),
+                    DOUBLE_UNLESS_MULTIPLE_OF_SEVEN));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void convertAll_noRecords_noResults() {
+        assertEquals(0, RecordConverter.parallel(ForkJoinPool.commonPool())
+                .convertAll(new ArrayList<Integer>(), DOUBLE_UNLESS_MULTIPLE_OF_SEVEN).size());
+    }
+
+    private static List<Integer> getRecords() {
+        List<Integer> records = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(i);
+        }
+        return records;
+    }
+
+    private static void assertConvertedInOrder(List<Conversion<Integer>> conversions) {
+        assertEquals(RECORD_COUNT, conversions.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Conversion<Integer> conversion = conversions.get(i);
+            if (i % 7 == 0) {
+                assertFalse(conversion.getValue().isPresent());
+                assertEquals("multiple of seven: " + i, conversion.getViolation().get());
+            } else {
+                assertFalse(conversion.getViolation().isPresent());
+                assertEquals(Integer.valueOf(i * 2), conversion.getValue().get());
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class RecoveringAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecoveringAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_goodFile_readFromFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        RecoveringAddressBookStorage storage = new RecoveringAddressBookStorage(
+                new JournaledAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(Optional.empty(), storage.getRecoveryMessage());
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_recoveredFromNewestBackup() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        RecoveringAddressBookStorage storage = new RecoveringAddressBookStorage(
+                new JournaledAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original);
+        AddressBook lastKnownGood = new AddressBook(original);
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook(original);
+
+        String json = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, json.replace("Alice Pauline", "Alice Paulina"));
+
+        assertEquals(lastKnownGood, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(filePath));
+        Path damagedPath = testFolder.resolve("addressBook.json.damaged");
+        assertTrue(Files.exists(damagedPath));
+        Path backupPath = DataFileBackups.getBackupPaths(filePath).get(0);
+        assertEquals(Optional.of(String.format(RecoveringAddressBookStorage.MESSAGE_RECOVERED, filePath, damagedPath,
+                backupPath)), storage.getRecoveryMessage());
+
+        // the recovered address book is saved as the new data file
+        storage.saveAddressBook(lastKnownGood);
+        assertEquals(lastKnownGood, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(Optional.empty(), storage.getRecoveryMessage());
+    }
+
+    @Test
+    public void readAddressBook_damagedFileWithoutBackups_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        RecoveringAddressBookStorage storage = new RecoveringAddressBookStorage(
+                new BinaryAddressBookStorage(filePath));
+
+        storage.saveAddressBook(TypicalAddressBook.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+        assertTrue(Files.exists(testFolder.resolve("addressBook.bin.damaged")));
+    }
+}
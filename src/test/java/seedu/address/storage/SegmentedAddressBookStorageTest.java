@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPassengers.GEORGE;
+import static seedu.address.testutil.TypicalPassengers.HOON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PassengerBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_ADDRESSBOOK_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidFilePath_throwsException() {
+        assertThrows(NullPointerException.class, () -> new SegmentedAddressBookStorage(null));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedAddressBookStorage(Paths.get("data.json")));
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "GMEdata.manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("data", "GMEdata.json")));
+        assertEquals(Paths.get("GMEdata.manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("GMEdata")));
+        assertEquals(Paths.get("GMEdata.manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("GMEdata.manifest.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(testFolder.resolve("missing.manifest.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.manifest.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(getSegmentFileNames(filePath, 1, DayOfWeek.MONDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+                getFileNames());
+
+        // Edit a passenger on thursday, and save only its segment
+        original.setPassenger(GEORGE, new PassengerBuilder(GEORGE).withAddress("Changed Road").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+        Set<String> expectedFileNames = getSegmentFileNames(filePath, 1, DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        expectedFileNames.addAll(getSegmentFileNames(filePath, 2, DayOfWeek.THURSDAY));
+        assertEquals(expectedFileNames, getFileNames());
+
+        // Save again after reading, emptying the thursday segment
+        original = new AddressBook(storage.readAddressBook().get());
+        original.removePassenger(original.getPassengerList().stream()
+                .filter(passenger -> passenger.isSamePerson(GEORGE)).findFirst().get());
+        original.addPassenger(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        expectedFileNames = getSegmentFileNames(filePath, 1, DayOfWeek.MONDAY);
+        expectedFileNames.addAll(getSegmentFileNames(filePath, 3, DayOfWeek.FRIDAY));
+        assertEquals(expectedFileNames, getFileNames());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_noFileWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.manifest.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        String manifest = FileUtil.readFromFile(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        assertEquals(manifest, FileUtil.readFromFile(filePath));
+        assertEquals(getSegmentFileNames(filePath, 1, DayOfWeek.MONDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+                getFileNames());
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_splitsJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        Files.copy(TYPICAL_ADDRESSBOOK_FILE, jsonFilePath);
+        Path filePath = SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath);
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, jsonFilePath);
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), addressBook);
+        assertFalse(Files.exists(filePath));
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(DataFileConversions.getConvertedFilePath(jsonFilePath)));
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_segmentChanged_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.manifest.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        new SegmentedAddressBookStorage(filePath).saveAddressBook(original);
+
+        Path segmentFilePath = testFolder.resolve(
+                SegmentedAddressBookStorage.getSegmentFileName(filePath, DayOfWeek.THURSDAY, 1));
+        FileUtil.writeToFile(segmentFilePath,
+                FileUtil.readFromFile(segmentFilePath).replace("George Best", "George Worst"));
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath)
+                .readAddressBook());
+
+        Files.delete(segmentFilePath);
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.manifest.json");
+        new SegmentedAddressBookStorage(filePath).saveAddressBook(TypicalAddressBook.getTypicalAddressBook());
+
+        String manifest = FileUtil.readFromFile(filePath);
+        // A segment listed twice has the same sort keys as itself
+        JsonSegmentManifest parsed = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class).get();
+        List<JsonSegmentManifest.Segment> segments = new ArrayList<>(parsed.getSegments());
+        segments.add(segments.get(0));
+        JsonUtil.saveJsonFile(new JsonSegmentManifest(parsed.getGeneration(), segments), filePath);
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath)
+                .readAddressBook());
+
+        FileUtil.writeToFile(filePath, manifest.replaceFirst("\"fileName\" : \"", "\"fileName\" : \"../"));
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    private Set<String> getSegmentFileNames(Path filePath, long generation, DayOfWeek... days) {
+        Set<String> fileNames = new TreeSet<>();
+        for (DayOfWeek day : days) {
+            fileNames.add(SegmentedAddressBookStorage.getSegmentFileName(filePath, day, generation));
+        }
+        return fileNames;
+    }
+
+    /**
+     * Returns the names of the segment files in the test folder.
+     */
+    private Set<String> getFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            Set<String> fileNames = files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("addressBook.")
+                            && !fileName.endsWith(SegmentedAddressBookStorage.MANIFEST_FILE_SUFFIX))
+                    .filter(fileName -> !fileName.equals("addressBook.json"))
+                    .collect(Collectors.toCollection(TreeSet::new));
+            assertTrue(fileNames.stream().noneMatch(fileName -> fileName.endsWith(".tmp")));
+            return fileNames;
+        }
+    }
+}